@@ -0,0 +1,335 @@
+package com.dromedarydrones.cli;
+
+import com.dromedarydrones.location.RouteCache;
+import com.dromedarydrones.mainapp.Configuration;
+import com.dromedarydrones.mainapp.DroneUtilization;
+import com.dromedarydrones.mainapp.Simulation;
+import com.dromedarydrones.mainapp.SimulationResults;
+import com.dromedarydrones.mainapp.TrialScheduler;
+import com.dromedarydrones.mainapp.WaitTimeStatistics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Headless entry point for running simulations without the JavaFX toolkit.
+ * Every XML configuration given on the command line is loaded and run
+ * concurrently on the trial scheduler, then summarized to standard out. Optionally a summary CSV containing one row
+ * per configuration and packing strategy and the per-order results CSV of each run are written.
+ * <pre>
+ * usage: SimulationRunner [options] &lt;config.xml&gt;...
+ *   -o, --output &lt;file&gt;    write a summary CSV row for each configuration and strategy
+ *   -d, --details &lt;dir&gt;    write the per-order results of each configuration
+ *   -t, --threads &lt;count&gt;  number of worker threads or CPU permits to run trials on
+ *   -s, --scheduler &lt;mode&gt; "work-stealing" (default) or "virtual" threads
+ *       --seed &lt;seed&gt;      master seed replacing the seed of every configuration
+ *   -h, --help             print this message
+ * </pre>
+ */
+public class SimulationRunner {
+
+    private static final int EXIT_SUCCESS = 0;  // every configuration ran
+    private static final int EXIT_FAILURE = 1;  // at least one configuration failed
+    private static final int EXIT_USAGE = 2;    // invalid command line arguments
+
+    private static final double SECONDS_PER_MINUTE = 60.0;
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "usage: SimulationRunner [options] <config.xml>...",
+            "  -o, --output <file>    write a summary CSV row for each configuration and strategy",
+            "  -d, --details <dir>    write the per-order results of each configuration",
+            "  -t, --threads <count>  number of worker threads or CPU permits to run trials on",
+            "  -s, --scheduler <mode> \"work-stealing\" (default) or \"virtual\" threads",
+            "      --seed <seed>      master seed replacing the seed of every configuration",
+            "  -h, --help             print this message");
+
+    private static final String SUMMARY_HEADER = "configuration,simulation,seed,trials,drones,strategy," +
+            "average (sec),worst (sec),expired (%)," + percentileHeader() + "utilization (%),runtime (ms)";
+
+    private final List<File> configurationFiles;    // configurations to run in order
+    private File summaryFile;                       // optional summary CSV destination
+    private File detailsDirectory;                  // optional per-order CSV directory
+    private TrialScheduler.Mode mode;               // requested scheduler mode or null
+    private int threads;                            // requested parallelism or zero
+    private Long seed;                              // master seed overriding the configurations or null
+
+    private SimulationRunner() {
+        configurationFiles = new ArrayList<>();
+        summaryFile = null;
+        detailsDirectory = null;
+        mode = null;
+        threads = 0;
+        seed = null;
+    }
+
+    public static void main(String[] args) {
+        SimulationRunner runner = new SimulationRunner();
+        try {
+            if (!runner.parseArguments(args)) {
+                System.out.println(USAGE);
+                System.exit(EXIT_SUCCESS);
+            }
+        } catch (IllegalArgumentException exception) {
+            System.err.println(exception.getMessage());
+            System.err.println(USAGE);
+            System.exit(EXIT_USAGE);
+        }
+        System.exit(runner.run());
+    }
+
+    /**
+     * Parses the command line arguments into the runner settings.
+     * @param args  command line arguments
+     * @return  {@code false} if only the usage was requested
+     * @throws IllegalArgumentException  if the arguments are malformed
+     */
+    private boolean parseArguments(String[] args) throws IllegalArgumentException {
+        for (int index = 0; index < args.length; index++) {
+            String argument = args[index];
+            switch (argument) {
+                case "-h":
+                case "--help":
+                    return false;
+                case "-o":
+                case "--output":
+                    summaryFile = new File(requireValue(args, ++index, argument));
+                    break;
+                case "-d":
+                case "--details":
+                    detailsDirectory = new File(requireValue(args, ++index, argument));
+                    break;
+                case "-t":
+                case "--threads":
+                    String count = requireValue(args, ++index, argument);
+                    try {
+                        threads = Integer.parseInt(count);
+                    } catch (NumberFormatException exception) {
+                        threads = 0;
+                    }
+                    if (threads < 1)
+                        throw new IllegalArgumentException("Invalid thread count \"" + count + "\".");
+                    break;
+                case "-s":
+                case "--scheduler":
+                    mode = TrialScheduler.Mode.fromName(requireValue(args, ++index, argument));
+                    break;
+                case "--seed":
+                    String value = requireValue(args, ++index, argument);
+                    try {
+                        seed = Long.parseLong(value);
+                    } catch (NumberFormatException exception) {
+                        throw new IllegalArgumentException("Invalid seed \"" + value + "\".");
+                    }
+                    break;
+                default:
+                    if (argument.startsWith("-"))
+                        throw new IllegalArgumentException("Unknown option \"" + argument + "\".");
+                    configurationFiles.add(new File(argument));
+            }
+        }
+        if (configurationFiles.isEmpty())
+            throw new IllegalArgumentException("At least one configuration file is required.");
+        return true;
+    }
+
+    private static String requireValue(String[] args, int index, String option) {
+        if (index >= args.length)
+            throw new IllegalArgumentException("Option \"" + option + "\" requires a value.");
+        return args[index];
+    }
+
+    /**
+     * Returns the scheduler requested on the command line or the shared one.
+     * @throws UnsupportedOperationException  if virtual threads were requested but are unsupported
+     */
+    private TrialScheduler createScheduler() throws UnsupportedOperationException {
+        TrialScheduler shared = TrialScheduler.getShared();
+        TrialScheduler.Mode requestedMode = mode != null ? mode : shared.getMode();
+        int requestedThreads = threads > 0 ? threads : shared.getParallelism();
+        if (requestedMode == shared.getMode() && requestedThreads == shared.getParallelism())
+            return shared;
+        return new TrialScheduler(requestedMode, requestedThreads);
+    }
+
+    /**
+     * Runs every configuration and writes the requested output.
+     * @return  process exit code
+     */
+    private int run() {
+        int exitCode = EXIT_SUCCESS;
+
+        if (detailsDirectory != null && !detailsDirectory.isDirectory() && !detailsDirectory.mkdirs()) {
+            System.err.println("Unable to create directory \"" + detailsDirectory + "\".");
+            return EXIT_FAILURE;
+        }
+
+        TrialScheduler scheduler;
+        try {
+            scheduler = createScheduler();
+        } catch (UnsupportedOperationException exception) {
+            System.err.println(exception.getMessage());
+            return EXIT_FAILURE;
+        }
+
+        // load every configuration and start running them
+        List<Simulation> simulations = new ArrayList<>();
+        List<Future<SimulationResults>> futures = new ArrayList<>();
+        long[] runtimes = new long[configurationFiles.size()];
+        for (int index = 0; index < configurationFiles.size(); index++) {
+            File file = configurationFiles.get(index);
+            Simulation simulation = Configuration.getConfigurationFromFile(file);
+            if (simulation == null) {
+                System.err.println("Unable to load configuration \"" + file + "\".");
+                exitCode = EXIT_FAILURE;
+            } else {
+                simulation.setTrialScheduler(scheduler);
+                if (seed != null) simulation.setSeed(seed);
+                simulation.setRetainingOrders(detailsDirectory != null);
+            }
+            int runIndex = index;
+            simulations.add(simulation);
+            futures.add(simulation == null ? null : scheduler.submit(() -> {
+                long start = System.nanoTime();
+                SimulationResults results = simulation.call();
+                runtimes[runIndex] = (System.nanoTime() - start) / 1_000_000;
+                return results;
+            }));
+        }
+
+        List<String> summaryRows = new ArrayList<>();
+        summaryRows.add(SUMMARY_HEADER);
+
+        // report the results in the order the configurations were given
+        for (int index = 0; index < configurationFiles.size(); index++) {
+            File file = configurationFiles.get(index);
+            Simulation simulation = simulations.get(index);
+            if (simulation == null) continue;
+
+            SimulationResults results;
+            try {
+                results = futures.get(index).get();
+            } catch (InterruptedException | ExecutionException exception) {
+                System.err.println("Simulation \"" + file + "\" failed: " + exception.getMessage());
+                exitCode = EXIT_FAILURE;
+                continue;
+            }
+            long runtime = runtimes[index];
+
+            printSummary(file, simulation, results, runtime);
+            for (String strategy : results.getStrategyNames())
+                summaryRows.add(summaryRow(file, simulation, results, strategy, runtime));
+
+            if (detailsDirectory != null) {
+                String name = file.getName().replaceFirst("\\.[^.]*$", "");
+                File details = new File(detailsDirectory, name + "-results.csv");
+                Configuration.getInstance().saveResults(results, details);
+            }
+        }
+
+        if (summaryFile != null) {
+            try (PrintWriter writer = new PrintWriter(summaryFile)) {
+                summaryRows.forEach(writer::println);
+            } catch (IOException ioException) {
+                System.err.println("Unable to write summary \"" + summaryFile + "\": " + ioException.getMessage());
+                exitCode = EXIT_FAILURE;
+            }
+        }
+
+        return exitCode;
+    }
+
+    private static void printSummary(File file, Simulation simulation, SimulationResults results, long runtime) {
+        System.out.printf(Locale.ROOT, "%s (%s): %d trials with %d drone%s in %d ms, seed %d%n",
+                simulation, file.getPath(), results.getTrialResults().size(), simulation.getFleet().size(),
+                simulation.getFleet().size() == 1 ? "" : "s", runtime, results.getSeed());
+
+        int width = results.getStrategyNames().stream().mapToInt(String::length).max().orElse(0) + 1;
+        String indent = " ".repeat(width + 3);
+        for (String strategy : results.getStrategyNames()) {
+            System.out.printf(Locale.ROOT, "  %-" + width + "s average %.1f min, worst %.1f min, expired %.2f%%%n",
+                    strategy + ":",
+                    results.getAverageTime(strategy) / SECONDS_PER_MINUTE,
+                    results.getWorstTime(strategy) / SECONDS_PER_MINUTE,
+                    results.getPercentExpired(strategy) * 100);
+            System.out.printf(Locale.ROOT, "%s%s%n", indent, percentileSummary(results.getStatistics(strategy)));
+            System.out.printf(Locale.ROOT, "%s%s%n", indent, utilizationSummary(results.getUtilization(strategy)));
+        }
+
+        RouteCache cache = results.getRouteCache();
+        if (cache != null)
+            System.out.printf(Locale.ROOT, "  route cache: %d hits, %d misses, %d evictions%n",
+                    cache.getHits(), cache.getMisses(), cache.getEvictions());
+    }
+
+    /** Lists the reported percentiles of the wait times in minutes. */
+    private static String percentileSummary(WaitTimeStatistics statistics) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (double percentile : SimulationResults.REPORTED_PERCENTILES)
+            joiner.add(String.format(Locale.ROOT, "p%s %.1f min", percentileName(percentile),
+                    statistics.getPercentile(percentile) / SECONDS_PER_MINUTE));
+        return joiner.toString();
+    }
+
+    /** Summarizes how busy the drones of the fleet were. */
+    private static String utilizationSummary(List<DroneUtilization> utilization) {
+        DoubleSummaryStatistics summary = utilization.stream()
+                .mapToDouble(DroneUtilization::getUtilization).summaryStatistics();
+        if (summary.getCount() < 2)
+            return String.format(Locale.ROOT, "utilization %.1f%%", summary.getAverage() * 100);
+        return String.format(Locale.ROOT, "utilization %.1f%% average, %.1f%% to %.1f%% per drone",
+                summary.getAverage() * 100, summary.getMin() * 100, summary.getMax() * 100);
+    }
+
+    /** Returns the average utilization of the drones of the fleet. */
+    private static double averageUtilization(List<DroneUtilization> utilization) {
+        return utilization.stream().mapToDouble(DroneUtilization::getUtilization).average().orElse(0);
+    }
+
+    private static String summaryRow(File file, Simulation simulation, SimulationResults results,
+                                     String strategy, long runtime) {
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%s,%.2f,%.2f,%.2f,%s%.2f,%d",
+                csvField(file.getPath()), csvField(simulation.toString()), results.getSeed(),
+                results.getTrialResults().size(), simulation.getFleet().size(), csvField(strategy),
+                results.getAverageTime(strategy), results.getWorstTime(strategy),
+                results.getPercentExpired(strategy) * 100,
+                percentileFields(results.getStatistics(strategy)),
+                averageUtilization(results.getUtilization(strategy)) * 100, runtime);
+    }
+
+    /** Builds the CSV header columns of the reported percentiles, each followed by a comma. */
+    private static String percentileHeader() {
+        StringBuilder header = new StringBuilder();
+        for (double percentile : SimulationResults.REPORTED_PERCENTILES)
+            header.append(String.format(Locale.ROOT, "p%s (sec),", percentileName(percentile)));
+        return header.toString();
+    }
+
+    /** Builds the CSV fields of the reported percentiles, each followed by a comma. */
+    private static String percentileFields(WaitTimeStatistics statistics) {
+        StringBuilder fields = new StringBuilder();
+        for (double percentile : SimulationResults.REPORTED_PERCENTILES)
+            fields.append(String.format(Locale.ROOT, "%.2f,", statistics.getPercentile(percentile)));
+        return fields.toString();
+    }
+
+    /** Formats a percentile without trailing zeros, such as "99.9" or "50". */
+    private static String percentileName(double percentile) {
+        return BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+    }
+
+    /** Quotes a CSV field if it contains a delimiter or quote. */
+    private static String csvField(String value) {
+        if (value.contains(",") || value.contains("\""))
+            return '"' + value.replace("\"", "\"\"") + '"';
+        return value;
+    }
+}
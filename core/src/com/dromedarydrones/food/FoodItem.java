@@ -5,6 +5,7 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Class pertaining to the creation of Food items
@@ -13,6 +14,8 @@ import java.util.Objects;
  */
 public class FoodItem implements XmlSerializable {
 
+	private static final AtomicLong weightChanges = new AtomicLong(); //number of weights changed by any food item
+
 	private String name; //name of the food item
 	private double weight; //weight of food item (in oz.)
 	
@@ -75,6 +78,15 @@ public class FoodItem implements XmlSerializable {
 			throw new IllegalArgumentException("Weight cannot be less than or equal to 0.");
 
 		this.weight = weight;
+		weightChanges.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of times the weight of any food item has been changed,
+	 * which invalidates the weights meals have cached when it differs.
+	 */
+	static long getWeightChanges() {
+		return weightChanges.get();
 	}
 	
 	/**
@@ -106,10 +118,14 @@ public class FoodItem implements XmlSerializable {
 		return name.toLowerCase();
 	}
 
+    /**
+     * Food items are equal if they have the same name, including frozen copies
+     * of a food item, which are only read-only views of the same food.
+     */
     @Override
     public boolean equals(Object other) {
         if (this == other) return true;
-        if (other == null || getClass() != other.getClass()) return false;
+        if (!(other instanceof FoodItem)) return false;
         FoodItem foodItem = (FoodItem) other;
         return name.equals(foodItem.name);
     }
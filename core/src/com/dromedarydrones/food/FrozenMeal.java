@@ -0,0 +1,90 @@
+package com.dromedarydrones.food;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable copy of a meal used while a simulation runs
+ * <p>
+ * The foods are copied and the total weight is summed once when the meal is
+ * frozen, so the meal can be read by any number of threads and its weight is a
+ * plain field, no matter how the original meal is edited in the meantime.
+ * Every method that would modify the meal or one of its foods throws an
+ * {@link UnsupportedOperationException}.
+ */
+public final class FrozenMeal extends Meal {
+	private final double totalWeight; //total weight of the foods when the meal was frozen
+
+	/**
+	 * Constructor that freezes a copy of a meal
+	 * @param meal the meal to copy
+	 * @throws IllegalArgumentException if meal is null
+	 */
+	public FrozenMeal(Meal meal) throws IllegalArgumentException {
+		super(copyFoods(meal), meal.getName(), meal.getProbability());
+
+		double weight = 0;
+		for (FoodItem food : getFoods())
+			weight += food.getWeight();
+		totalWeight = weight;
+	}
+
+	private static List<FoodItem> copyFoods(Meal meal) throws IllegalArgumentException {
+		if(meal == null)
+			throw new IllegalArgumentException("Meal cannot be null.");
+
+		List<FoodItem> foods = new ArrayList<>();
+		for (FoodItem food : meal.getFoods())
+			foods.add(new FrozenFoodItem(food));
+		return foods;
+	}
+
+	/**
+	 * Method to get the total weight of the meal when it was frozen
+	 * @return the total weight of the meal
+	 */
+	@Override
+	public double getTotalWeight() {
+		return totalWeight;
+	}
+
+	@Override
+	public void setName(String name) {
+		throw new UnsupportedOperationException("Frozen meals cannot be modified.");
+	}
+
+	@Override
+	public void setProbability(double probability) {
+		throw new UnsupportedOperationException("Frozen meals cannot be modified.");
+	}
+
+	@Override
+	public void addItem(FoodItem food) {
+		throw new UnsupportedOperationException("Frozen meals cannot be modified.");
+	}
+
+	@Override
+	public void removeItem(FoodItem food) {
+		throw new UnsupportedOperationException("Frozen meals cannot be modified.");
+	}
+
+	/**
+	 * Copy of a food item of a frozen meal, which cannot be modified either
+	 */
+	private static final class FrozenFoodItem extends FoodItem {
+
+		private FrozenFoodItem(FoodItem food) {
+			super(food);
+		}
+
+		@Override
+		public void setName(String name) {
+			throw new UnsupportedOperationException("Foods of frozen meals cannot be modified.");
+		}
+
+		@Override
+		public void setWeight(double weight) {
+			throw new UnsupportedOperationException("Foods of frozen meals cannot be modified.");
+		}
+	}
+}
@@ -6,19 +6,28 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Class pertaining to the creation of meals
+ * <p>
+ * The total weight is cached until a food item is added or removed or the weight
+ * of any food item changes. Meals are not thread safe; simulations run on
+ * {@link FrozenMeal frozen copies} instead.
  * @author Izzy Patnode
  *
  */
 public class Meal implements XmlSerializable {
+	private static final long NOT_CACHED = -1; //weight changes of a total weight that is not cached
+
 	private final ArrayList<FoodItem> foods; //list of foods in the meal
 	private String name; //name of the meal
 	private double probability; //probability a customer orders the meal
+	private double totalWeight; //cached total weight of the foods
+	private long weightChanges = NOT_CACHED; //food item weight changes when the total weight was cached
 	
 	/**
 	 * Default constructor for Meal class
@@ -90,22 +99,29 @@ public class Meal implements XmlSerializable {
 	}
 	
 	/**
-	 * Method to get the list of foods in the meal
+	 * Method to get the list of foods in the meal, which is read-only
+	 * so foods are only added and removed through the meal
 	 * @return a list of foods in the meal
 	 */
-	public ArrayList<FoodItem> getFoods() {
-		return foods;
+	public List<FoodItem> getFoods() {
+		return Collections.unmodifiableList(foods);
 	}
 	
 	/**
-	 * Method to get the total weight of the meal
+	 * Method to get the total weight of the meal, which is only
+	 * summed again after the foods or their weights have changed
 	 * @return the total weight of the meal
 	 */
 	public double getTotalWeight() {
-		double weight = 0;
-		for (FoodItem food : foods)
-			weight += food.getWeight();
-		return weight;
+		long changes = FoodItem.getWeightChanges();
+		if (weightChanges != changes) {
+			double weight = 0;
+			for (FoodItem food : foods)
+				weight += food.getWeight();
+			totalWeight = weight;
+			weightChanges = changes;
+		}
+		return totalWeight;
 	}
 	
 	/**
@@ -118,6 +134,7 @@ public class Meal implements XmlSerializable {
 			throw new IllegalArgumentException("Cannot add null food item.");
 
 		foods.add(food);
+		weightChanges = NOT_CACHED;
 	}
 	
 	/**
@@ -126,6 +143,7 @@ public class Meal implements XmlSerializable {
 	 */
 	public void removeItem(FoodItem food) {
 		foods.remove(food);
+		weightChanges = NOT_CACHED;
 	}
 
 	@Override
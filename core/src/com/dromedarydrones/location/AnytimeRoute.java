@@ -0,0 +1,64 @@
+package com.dromedarydrones.location;
+
+/**
+ * Route planned within a latency budget by {@link RoutePlanner#planWithin(java.util.List, long)},
+ * together with how much of the budget planning used and how much shorter the
+ * route is than flying the points in their initial order.
+ */
+public final class AnytimeRoute {
+
+    private final Route route;              // shortest route found in time
+    private final double initialLength;     // length in feet of the points in their initial order
+    private final long elapsedNanos;        // time spent planning
+    private final long budgetNanos;         // time planning was allowed to take
+
+    AnytimeRoute(Route route, double initialLength, long elapsedNanos, long budgetNanos) {
+        this.route = route;
+        this.initialLength = initialLength;
+        this.elapsedNanos = elapsedNanos;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Returns the shortest route found within the budget.
+     */
+    public Route getRoute() {
+        return route;
+    }
+
+    /**
+     * Returns the length in feet of flying the points in their initial order.
+     */
+    public double getInitialLength() {
+        return initialLength;
+    }
+
+    /**
+     * Returns how many feet shorter the route is than the initial order.
+     */
+    public double getImprovement() {
+        return initialLength - route.getLength();
+    }
+
+    /**
+     * Returns the nanoseconds spent planning the route.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the nanoseconds planning was allowed to take.
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Returns the fraction of the budget spent planning, which may exceed 1
+     * by the time of one pass over the points and of building the route.
+     */
+    public double getBudgetUsed() {
+        return (double) elapsedNanos / budgetNanos;
+    }
+}
@@ -1,15 +1,16 @@
 package com.dromedarydrones.location;
 
+import com.dromedarydrones.sampling.AliasSampler;
 import com.dromedarydrones.xml.XmlSerializable;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.Random;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 
 /**
@@ -19,11 +20,9 @@ import java.util.function.Consumer;
 public class DeliveryPoints implements Iterable<Point>, XmlSerializable {
 
     private final ArrayList<Point> points;
-    private final Random random;
 
     public DeliveryPoints() {
         points = new ArrayList<>();
-        random = new Random();
         _tmpLoadPoints();
     }
 
@@ -32,13 +31,11 @@ public class DeliveryPoints implements Iterable<Point>, XmlSerializable {
             throw new IllegalArgumentException("Given DeliveryPoints object cannot be null");
 
         points = new ArrayList<>();
-        random = new Random();
         for (Point point : other) points.add(new Point(point));
     }
 
     public DeliveryPoints(Element root) {
         points = new ArrayList<>();
-        random = new Random();
         NodeList children = root.getElementsByTagName("point");
         for (int index = 0; index < children.getLength(); index++) {
             Point point = new Point((Element) children.item(index));
@@ -90,21 +87,48 @@ public class DeliveryPoints implements Iterable<Point>, XmlSerializable {
         points.remove(point);
     }
 
+    /**
+     * Builds a sampler drawing the known points in constant time with probabilities
+     * proportional to their {@link Point#getDemand() demand}. The sampler holds
+     * copies of the points, so it is unaffected by later changes and can be shared.
+     * @throws IllegalArgumentException  if there are no points or none has any demand
+     */
+    public AliasSampler<Point> createDemandSampler() throws IllegalArgumentException {
+        List<Point> copies = new ArrayList<>(points.size());
+        for (Point point : points) copies.add(new Point(point));
+        return new AliasSampler<>(copies, Point::getDemand);
+    }
+
     /**
      * Returns a random known {@link Point} or {@code null} if no points were added.
+     * Every point is equally likely regardless of its demand.
      */
     public Point getRandomPoint() {
+        if (points.size() == 0) return null;
+        return points.get(ThreadLocalRandom.current().nextInt(points.size()));
+    }
+
+    /**
+     * Returns a known {@link Point} chosen using the given random number
+     * generator or {@code null} if no points were added. Every point is
+     * equally likely regardless of its demand.
+     * @param random  random number generator to draw from
+     */
+    public Point getRandomPoint(SplittableRandom random) throws IllegalArgumentException {
+        if (random == null)
+            throw new IllegalArgumentException("Random number generator cannot be null.");
+
         if (points.size() == 0) return null;
         return points.get(random.nextInt(points.size()));
     }
 
     /**
-     * Makes the current simulation's list of delivery points into a list for javafx
+     * Returns the live list of the current simulation's delivery points
      * @author Izzy Patnode
-     * @return a list of points for javafx
+     * @return the list of delivery points
      */
-    public ObservableList<Point> getPoints() {
-        return FXCollections.observableList(points);
+    public List<Point> getPoints() {
+        return points;
     }
 
     /**
@@ -0,0 +1,205 @@
+package com.dromedarydrones.location;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable table of the distances in feet between every pair of a set of
+ * {@link Point}s and the origin, computed once so routing and flight time
+ * calculations only look them up.
+ * <p>
+ * A table of more than {@link #MAX_STORED_SIZE} ids would take memory growing with
+ * the square of its size, about 3.2 GB at 20,000 points, so larger matrices store
+ * only the coordinates of their points and compute each distance when it is looked
+ * up, which gives the same distances in memory proportional to their size.
+ * <p>
+ * Each distinct point is given a dense id starting at 1, with the origin as
+ * id {@link #ORIGIN}, and the distances are stored in a flat array indexed by
+ * {@code from * size() + to}. Looking up a point by its id avoids hashing in
+ * inner loops. Wherever a point is expected, {@code null} stands for the origin
+ * as it does in {@link Point#distanceFromPoint(Point)}.
+ * <p>
+ * The other points of every id sorted by distance are computed the first time
+ * a route planner asks for them and then shared by every route of the matrix.
+ * Only matrices that store their distances have them.
+ */
+public final class DistanceMatrix {
+
+    /** id of the origin */
+    public static final int ORIGIN = 0;
+    /** most ids including the origin whose distances are stored, about 33 MB of them */
+    public static final int MAX_STORED_SIZE = 2048;
+
+    private final Point[] points;               // point of each id, null for the origin
+    private final Map<Point, Integer> ids;      // id of each point
+    private final int[] xs;                     // x coordinate of each id
+    private final int[] ys;                     // y coordinate of each id
+    private final double[] distances;           // distance between every pair of ids, null if not stored
+    private final int size;                     // number of ids including the origin
+    private volatile int[] neighbors;           // other ids of each id closest first, null until needed
+
+    /**
+     * Computes the distances between all delivery points.
+     * @param deliveryPoints  delivery points
+     */
+    public DistanceMatrix(DeliveryPoints deliveryPoints) throws IllegalArgumentException {
+        this(deliveryPoints == null ? null : deliveryPoints.getPoints());
+    }
+
+    /**
+     * Computes the distances between all given points, or only keeps the points if there are more
+     * than {@link #MAX_STORED_SIZE} ids. Equal points share an id.
+     * @param points  points, which may contain duplicates
+     */
+    public DistanceMatrix(Collection<Point> points) throws IllegalArgumentException {
+        if (points == null)
+            throw new IllegalArgumentException("Points cannot be null.");
+
+        List<Point> distinct = new ArrayList<>();
+        distinct.add(null);
+        ids = new HashMap<>();
+        for (Point point : points) {
+            if (point == null)
+                throw new IllegalArgumentException("Points cannot contain null.");
+            if (ids.putIfAbsent(point, distinct.size()) == null)
+                distinct.add(point);
+        }
+
+        this.points = distinct.toArray(new Point[0]);
+        size = this.points.length;
+        xs = new int[size];
+        ys = new int[size];
+        for (int id = 1; id < size; id++) {
+            xs[id] = this.points[id].getX();
+            ys[id] = this.points[id].getY();
+        }
+        if (size > MAX_STORED_SIZE) {
+            distances = null;
+            return;
+        }
+
+        distances = new double[size * size];
+        for (int from = 0; from < size; from++) {
+            for (int to = from + 1; to < size; to++) {
+                double distance = this.points[to].distanceFromPoint(this.points[from]);
+                distances[from * size + to] = distance;
+                distances[to * size + from] = distance;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of ids including the origin.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the id of a point.
+     * @param point  point or {@code null} for the origin
+     * @throws IllegalArgumentException  if the point is not part of the matrix
+     */
+    public int getId(Point point) throws IllegalArgumentException {
+        if (point == null) return ORIGIN;
+
+        Integer id = ids.get(point);
+        if (id == null)
+            throw new IllegalArgumentException("Point \"" + point + "\" is not part of the distance matrix.");
+        return id;
+    }
+
+    /**
+     * Returns {@code true} if the point is part of the matrix.
+     * @param point  point or {@code null} for the origin
+     */
+    public boolean contains(Point point) {
+        return point == null || ids.containsKey(point);
+    }
+
+    /**
+     * Returns the point with an id.
+     * @param id  id of the point
+     * @return  the point or {@code null} for the origin
+     */
+    public Point getPoint(int id) {
+        return points[id];
+    }
+
+    /**
+     * Returns the distance in feet between the points with two ids.
+     * @param from  id of the first point
+     * @param to    id of the second point
+     */
+    public double getDistance(int from, int to) {
+        if (distances != null) return distances[from * size + to];
+
+        // the same arithmetic as Point.distanceFromPoint, so the distances do not depend on the size
+        int xDiff = xs[from] - xs[to];
+        int yDiff = ys[from] - ys[to];
+        return Math.sqrt(xDiff*xDiff + yDiff*yDiff);
+    }
+
+    /**
+     * Returns the distance in feet between two points.
+     * @param from  first point or {@code null} for the origin
+     * @param to    second point or {@code null} for the origin
+     * @throws IllegalArgumentException  if a point is not part of the matrix
+     */
+    public double getDistance(Point from, Point to) throws IllegalArgumentException {
+        return getDistance(getId(from), getId(to));
+    }
+
+    /**
+     * Returns {@code true} if the distances are stored rather than computed on each lookup,
+     * which the neighbor lists require.
+     */
+    boolean isStored() {
+        return distances != null;
+    }
+
+    /**
+     * Returns {@code true} if the neighbor lists have already been computed.
+     */
+    boolean hasNeighbors() {
+        return neighbors != null;
+    }
+
+    /**
+     * Returns the ids of the other points of every id sorted by distance, closest first. The
+     * {@code size() - 1} neighbors of an id start at index {@code id * (size() - 1)}. They are
+     * computed in time proportional to {@code size()^2 * log(size())} when first needed.
+     * @throws IllegalStateException  if the distances are not stored
+     */
+    int[] getNeighbors() throws IllegalStateException {
+        int[] lists = neighbors;
+        if (lists != null) return lists;
+        if (distances == null)
+            throw new IllegalStateException("Neighbor lists need the distances to be stored.");
+
+        synchronized (this) {
+            if (neighbors == null) {
+                int count = size - 1;
+                lists = new int[size * count];
+                long[] keys = new long[count];
+                for (int from = 0; from < size; from++) {
+                    // non-negative floats sort like their bits, which leaves the low half for the id
+                    int index = 0;
+                    for (int to = 0; to < size; to++) {
+                        if (to != from)
+                            keys[index++] = (long) Float.floatToIntBits((float) getDistance(from, to)) << 32 | to;
+                    }
+                    Arrays.sort(keys);
+                    for (index = 0; index < count; index++)
+                        lists[from * count + index] = (int) keys[index];
+                }
+                neighbors = lists;
+            }
+            return neighbors;
+        }
+    }
+}
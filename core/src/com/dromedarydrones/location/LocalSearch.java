@@ -0,0 +1,535 @@
+package com.dromedarydrones.location;
+
+import java.util.Arrays;
+
+/**
+ * Deterministic route improver that builds a nearest neighbor tour from the
+ * origin and then applies improving 2-opt and Or-opt moves until none remain.
+ * <p>
+ * Moves are only tried between points that are among each other's nearest
+ * neighbors, which keeps a pass over the tour roughly linear in the number of
+ * points. Internally the origin is node 0 of a closed tour and the given points
+ * of the {@link DistanceMatrix} are nodes 1 to n, whose distances are computed
+ * from their coordinates like the matrix computes them. The neighbors are taken
+ * from the matrix's shared {@link DistanceMatrix#getNeighbors() neighbor lists}
+ * when the matrix stores its distances and the route holds enough of its points
+ * for a few entries of each list to contain them, and are otherwise looked for
+ * among the points of the route in a grid of their coordinates, so finding them
+ * never takes time proportional to the size of the matrix. Improving moves are
+ * only looked for around the nodes whose edges changed since they were last
+ * checked.
+ * <p>
+ * A timed search checks its deadline between setup steps and between moves and
+ * returns the tour it has reached once the deadline passes, or the points in
+ * their given order if the first tour was not complete by then. It never
+ * computes the neighbor lists of the matrix itself.
+ */
+final class LocalSearch {
+
+    /** number of nearest neighbors of each node considered for moves */
+    static final int NEIGHBORS = 8;
+    /**
+     * Most points of the matrix per point of the route for which the neighbors are taken from the
+     * matrix's neighbor lists, which takes reading about this many entries per neighbor of each node.
+     * Looking for them in a grid takes about as long as reading 16 entries per neighbor.
+     */
+    static final int LIST_RATIO = 16;
+    /** average number of nodes in a cell of the grid the neighbors are looked for in */
+    private static final int NODES_PER_CELL = 2;
+    /** longest segment of consecutive points moved by Or-opt */
+    static final int MAX_SEGMENT = 3;
+    /** smallest improvement in feet accepted as a move, which keeps ties from cycling */
+    private static final double EPSILON = 1e-7;
+
+    /**
+     * Node plus one of each id of the matrix last searched by the thread, or 0 for the ids not on its
+     * route. Every entry is set back to 0 after use, so it is only allocated when a larger matrix is searched.
+     */
+    private static final ThreadLocal<int[]> NODE_OF = ThreadLocal.withInitial(() -> new int[0]);
+
+    private final DistanceMatrix distances; // distances between the points
+    private final int[] ids;                // id in the matrix of each node
+    private final int[] xs;                 // x coordinate of each node, the origin's being 0
+    private final int[] ys;                 // y coordinate of each node, the origin's being 0
+    private final int size;                 // number of nodes including the origin
+    private final int neighborCount;        // number of neighbors of each node
+    private final int[] neighbors;          // nearest other nodes of each node, closest first
+    private final double[] neighborLegs;    // distance from each node to each of its nearest neighbors
+    private final int[] tour;               // nodes in the order they are visited
+    private final int[] position;           // position of each node in the tour
+    private final int[] segment;            // buffer holding the segment moved by Or-opt
+    private final int[] queue;              // circular queue of the nodes whose moves are still to be tried
+    private final boolean[] waiting;        // whether each node is in the queue
+    private final boolean timed;            // whether the search stops at the deadline
+    private final long deadline;            // System.nanoTime() at which a timed search stops
+    private int head;                       // index of the first node in the queue
+    private int queued;                     // number of nodes in the queue
+
+    private LocalSearch(int[] points, DistanceMatrix distances, boolean timed, long deadline) {
+        this.distances = distances;
+        this.timed = timed;
+        this.deadline = deadline;
+        size = points.length + 1;
+        ids = new int[size];
+        ids[0] = DistanceMatrix.ORIGIN;
+        System.arraycopy(points, 0, ids, 1, points.length);
+        xs = new int[size];
+        ys = new int[size];
+        for (int node = 1; node < size; node++) {
+            Point point = distances.getPoint(ids[node]);
+            xs[node] = point.getX();
+            ys[node] = point.getY();
+        }
+
+        neighborCount = Math.min(NEIGHBORS, size - 1);
+        neighbors = new int[size * neighborCount];
+        neighborLegs = new double[size * neighborCount];
+        tour = new int[size];
+        position = new int[size];
+        segment = new int[MAX_SEGMENT];
+        queue = new int[size];
+        waiting = new boolean[size];
+    }
+
+    /**
+     * Returns the points in the order of an improved tour from the origin.
+     * @param points     ids of the points to be routed
+     * @param distances  distances between the points
+     */
+    static int[] improve(int[] points, DistanceMatrix distances) {
+        return improve(points, distances, false, 0);
+    }
+
+    /**
+     * Returns the points in the order of an improved tour from the origin,
+     * stopping at the deadline if the search is timed.
+     * @param points     ids of the points to be routed
+     * @param distances  distances between the points
+     * @param timed      whether to stop at the deadline
+     * @param deadline   {@link System#nanoTime()} at which to stop
+     */
+    static int[] improve(int[] points, DistanceMatrix distances, boolean timed, long deadline) {
+        if (points.length <= 2) return points;
+
+        LocalSearch search = new LocalSearch(points, distances, timed, deadline);
+        if (!search.findNeighbors() || !search.buildNearestNeighborTour()) return points;
+        search.optimize();
+
+        // rotate the tour to start after the origin
+        int[] route = new int[points.length];
+        int start = search.position[0];
+        for (int index = 1; index < search.size; index++)
+            route[index - 1] = points[search.tour[(start + index) % search.size] - 1];
+        return route;
+    }
+
+    private boolean isExpired() {
+        return timed && System.nanoTime() - deadline > 0;
+    }
+
+    /**
+     * Returns the distance between two nodes, computed from their coordinates exactly as
+     * {@link Point#distanceFromPoint(Point)} computes the distances of the matrix, which saves
+     * the cache misses of looking them up all over a large matrix.
+     */
+    private double leg(int from, int to) {
+        int dx = xs[from] - xs[to], dy = ys[from] - ys[to];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Returns the squared distance between two nodes, which orders them like their distance.
+     */
+    private long square(int from, int to) {
+        long dx = xs[from] - xs[to], dy = ys[from] - ys[to];
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Wraps an index of up to twice the size around the tour.
+     */
+    private int wrap(int index) {
+        return index < size ? index : index - size;
+    }
+
+    private int next(int node) {
+        int index = position[node] + 1;
+        return tour[index == size ? 0 : index];
+    }
+
+    private int previous(int node) {
+        int index = position[node];
+        return tour[index == 0 ? size - 1 : index - 1];
+    }
+
+    /**
+     * Fills in the nearest neighbors of every node, from the neighbor lists of the matrix if it stores its
+     * distances, the route holds enough of its points and the lists have been computed or the search is
+     * not timed, and otherwise from a grid of the points of the route.
+     * @return {@code false} if the deadline passed first
+     */
+    private boolean findNeighbors() {
+        if (distances.isStored() && distances.size() <= LIST_RATIO * size && (!timed || distances.hasNeighbors()))
+            return filterNeighbors();
+        return gridNeighbors();
+    }
+
+    /**
+     * Takes the neighbors of every node from the neighbor lists of the matrix, skipping points not on the route.
+     * @return {@code false} if the deadline passed first
+     */
+    private boolean filterNeighbors() {
+        int[] lists = distances.getNeighbors();
+        int listLength = distances.size() - 1;
+        int[] nodeOf = NODE_OF.get();
+        if (nodeOf.length < distances.size()) {
+            nodeOf = new int[distances.size()];
+            NODE_OF.set(nodeOf);
+        }
+        for (int node = 0; node < size; node++)
+            nodeOf[ids[node]] = node + 1;
+
+        try {
+            for (int node = 0; node < size; node++) {
+                if (isExpired()) return false;
+
+                int found = 0;
+                for (int index = ids[node] * listLength; found < neighborCount; index++) {
+                    int other = nodeOf[lists[index]];
+                    if (other != 0) neighbors[node * neighborCount + found++] = other - 1;
+                }
+                fillNeighborLegs(node);
+            }
+            return true;
+        } finally {
+            for (int node = 0; node < size; node++)
+                nodeOf[ids[node]] = 0;
+        }
+    }
+
+    /**
+     * Finds the nearest neighbors of every node among the points of the route. The nodes are sorted into
+     * a square grid of cells holding about {@link #NODES_PER_CELL} nodes each, and the rings of cells around
+     * each node are searched outward until no node outside them can be closer than the neighbors found.
+     * @return {@code false} if the deadline passed first
+     */
+    private boolean gridNeighbors() {
+        int minX = 0, maxX = 0, minY = 0, maxY = 0;
+        for (int node = 1; node < size; node++) {
+            minX = Math.min(minX, xs[node]);
+            maxX = Math.max(maxX, xs[node]);
+            minY = Math.min(minY, ys[node]);
+            maxY = Math.max(maxY, ys[node]);
+        }
+        int side = Math.max(1, (int) Math.sqrt(size / NODES_PER_CELL));    // cells in each row and column
+        long width = (Math.max((long) maxX - minX, (long) maxY - minY) + side) / side;  // feet covered by a cell
+
+        // sort the nodes by cell, so the nodes of a cell are consecutive
+        int[] cellOf = new int[size];
+        int[] cellStart = new int[side * side + 1];
+        int[] cellNodes = new int[size];
+        for (int node = 0; node < size; node++) {
+            cellOf[node] = (int) ((ys[node] - minY) / width) * side + (int) ((xs[node] - minX) / width);
+            cellStart[cellOf[node] + 1]++;
+        }
+        for (int cell = 0; cell < side * side; cell++)
+            cellStart[cell + 1] += cellStart[cell];
+        int[] filled = Arrays.copyOf(cellStart, side * side);
+        for (int node = 0; node < size; node++)
+            cellNodes[filled[cellOf[node]]++] = node;
+
+        long[] squares = new long[neighborCount];   // squared distances to the neighbors found so far
+        for (int node = 0; node < size; node++) {
+            if (isExpired()) return false;
+
+            int row = cellOf[node] / side, column = cellOf[node] % side;
+            int found = 0;
+            for (int ring = 0; ring < side; ring++) {
+                // nodes outside the rings searched so far are at least as far as the edge of those rings
+                if (found == neighborCount) {
+                    long reach = Math.min(
+                            Math.min(xs[node] - minX - (column - ring + 1) * width, minX + (column + ring) * width - xs[node]),
+                            Math.min(ys[node] - minY - (row - ring + 1) * width, minY + (row + ring) * width - ys[node]));
+                    if (reach * reach > squares[found - 1]) break;
+                }
+                for (int cellRow = Math.max(row - ring, 0); cellRow <= Math.min(row + ring, side - 1); cellRow++) {
+                    // the rows in between only have a cell at either end of the ring
+                    int step = cellRow == row - ring || cellRow == row + ring ? 1 : 2 * ring;
+                    for (int cellColumn = column - ring; cellColumn <= column + ring; cellColumn += step) {
+                        if (cellColumn < 0 || cellColumn >= side) continue;
+                        int cell = cellRow * side + cellColumn;
+                        for (int index = cellStart[cell]; index < cellStart[cell + 1]; index++) {
+                            int other = cellNodes[index];
+                            if (other != node)
+                                found = insertNeighbor(node, other, square(node, other), squares, found);
+                        }
+                    }
+                }
+            }
+            fillNeighborLegs(node);
+        }
+        return true;
+    }
+
+    /**
+     * Inserts a node into the neighbors of another node, sorted closest first, if it is closer than the
+     * farthest of the neighbors found so far or fewer than all of them have been found.
+     * @param square   squared distance between the nodes
+     * @param squares  squared distances to the neighbors found so far
+     * @param found    number of neighbors found so far
+     * @return  the number of neighbors found after inserting it
+     */
+    private int insertNeighbor(int node, int other, long square, long[] squares, int found) {
+        int offset = node * neighborCount;
+        int index = found < neighborCount ? found++ : neighborCount;
+        while (index > 0 && squares[index - 1] > square) {
+            if (index < neighborCount) {
+                squares[index] = squares[index - 1];
+                neighbors[offset + index] = neighbors[offset + index - 1];
+            }
+            index--;
+        }
+        if (index < neighborCount) {
+            squares[index] = square;
+            neighbors[offset + index] = other;
+        }
+        return found;
+    }
+
+    /**
+     * Keeps the distances to the neighbors of a node next to them, where moves look them up most often.
+     */
+    private void fillNeighborLegs(int node) {
+        for (int offset = node * neighborCount; offset < (node + 1) * neighborCount; offset++)
+            neighborLegs[offset] = leg(node, neighbors[offset]);
+    }
+
+    /**
+     * Starts at the origin and always flies to the closest point not yet visited, which is looked
+     * for among the nearest neighbors first and among every point left only when they were all visited.
+     * @return {@code false} if the deadline passed before the tour was complete
+     */
+    private boolean buildNearestNeighborTour() {
+        int[] unvisited = new int[size];    // nodes not yet visited, in no particular order
+        int[] slot = new int[size];         // index of each unvisited node in that list
+        for (int node = 0; node < size; node++) {
+            unvisited[node] = node;
+            slot[node] = node;
+        }
+
+        int remaining = size;
+        int current = 0;
+        for (int index = 0; index < size; index++) {
+            if (isExpired()) return false;
+            tour[index] = current;
+            position[current] = index;
+
+            // remove the current node from the unvisited ones
+            int last = unvisited[--remaining];
+            unvisited[slot[current]] = last;
+            slot[last] = slot[current];
+            slot[current] = -1;
+            if (remaining == 0) break;
+
+            int closest = -1;
+            for (int offset = current * neighborCount; offset < (current + 1) * neighborCount; offset++) {
+                if (slot[neighbors[offset]] >= 0) {
+                    closest = neighbors[offset];
+                    break;
+                }
+            }
+            if (closest < 0) {
+                long closestSquare = Long.MAX_VALUE;
+                for (int other = 0; other < remaining; other++) {
+                    long square = square(current, unvisited[other]);
+                    if (square < closestSquare) {
+                        closest = unvisited[other];
+                        closestSquare = square;
+                    }
+                }
+            }
+            current = closest;
+        }
+        return true;
+    }
+
+    /**
+     * Applies improving moves around the nodes waiting in the queue, which initially holds every node,
+     * until none is left. A node whose moves improve nothing leaves the queue and only re-enters it when
+     * a later move changes one of its edges, so the search settles without rescanning the whole tour.
+     */
+    private void optimize() {
+        for (int index = 0; index < size; index++)
+            enqueue(tour[index]);
+
+        while (queued > 0 && !isExpired()) {
+            int node = queue[head];
+            head = head + 1 == size ? 0 : head + 1;
+            queued--;
+            waiting[node] = false;
+
+            if (twoOptMove(node, true) || twoOptMove(node, false) || orOptMove(node))
+                enqueue(node);
+        }
+    }
+
+    private void enqueue(int node) {
+        if (waiting[node]) return;
+
+        int tail = head + queued;
+        queue[tail < size ? tail : tail - size] = node;
+        queued++;
+        waiting[node] = true;
+    }
+
+    /**
+     * Tries to replace the edge following or preceding a node and an edge of one of its neighbors,
+     * reversing the path between them.
+     * @return {@code true} if the tour was improved
+     */
+    private boolean twoOptMove(int a, boolean forward) {
+        int b = forward ? next(a) : previous(a);
+        double removedAB = leg(a, b);
+        for (int offset = a * neighborCount; offset < (a + 1) * neighborCount; offset++) {
+            int c = neighbors[offset];
+            double addedAC = neighborLegs[offset];
+            if (addedAC >= removedAB) break;
+
+            int d = forward ? next(c) : previous(c);
+            if (c == b || d == a) continue;
+            if (addedAC + leg(b, d) - removedAB - leg(c, d) < -EPSILON) {
+                if (forward) reverse(b, c);
+                else reverse(c, b);
+                enqueue(b);
+                enqueue(c);
+                enqueue(d);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reverses the path of the tour from one node to another in the direction of travel.
+     */
+    private void reverse(int from, int to) {
+        int start = position[from];
+        int length = (position[to] - start + size) % size + 1;
+
+        // reversing the rest of the cycle instead is equivalent and may be shorter
+        if (2 * length > size) {
+            start = (position[to] + 1) % size;
+            length = size - length;
+        }
+        for (int index = 0; index < length / 2; index++) {
+            int left = wrap(start + index);
+            int right = wrap(start + length - 1 - index);
+            int swap = tour[left];
+            tour[left] = tour[right];
+            tour[right] = swap;
+            position[tour[left]] = left;
+            position[tour[right]] = right;
+        }
+    }
+
+    /**
+     * Tries to move a segment of one to {@link #MAX_SEGMENT} consecutive nodes starting at a node, possibly
+     * reversed, next to a neighbor of one of the segment's ends. Segments ending at the node are tried
+     * when the node they start at is checked.
+     * @return {@code true} if the tour was improved
+     */
+    private boolean orOptMove(int node) {
+        int start = position[node];
+        for (int length = 1; length <= MAX_SEGMENT && length < size - 2; length++) {
+            if (tryMoveSegment(node, tour[wrap(start + length - 1)], length))
+                return true;
+        }
+        return false;
+    }
+
+    private boolean tryMoveSegment(int first, int last, int length) {
+        int before = previous(first);
+        int after = next(last);
+        double cut = leg(before, first) + leg(last, after);
+
+        // no neighbor of either end is close enough if even the edges cut off are shorter
+        if (neighborLegs[first * neighborCount] >= cut && neighborLegs[last * neighborCount] >= cut)
+            return false;
+        double removed = cut - leg(before, after);
+        if (tryInsert(first, last, length, removed, first)
+                || first != last && tryInsert(first, last, length, removed, last)) {
+            enqueue(before);
+            enqueue(after);
+            enqueue(first);
+            enqueue(last);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Tries to move a segment between a neighbor of one of its ends and the node following or preceding it.
+     * @return {@code true} if the segment was moved
+     */
+    private boolean tryInsert(int first, int last, int length, double removed, int end) {
+        for (int offset = end * neighborCount; offset < (end + 1) * neighborCount; offset++) {
+            int c = neighbors[offset];
+            if (neighborLegs[offset] >= removed) break;
+            if (inSegment(c, first, length)) continue;
+
+            for (int direction = 0; direction < 2; direction++) {
+                int e = direction == 0 ? next(c) : previous(c);
+                if (inSegment(e, first, length)) continue;
+
+                // the segment is placed with the end whose neighbor it is next to the neighbor
+                int left = direction == 0 ? c : e, right = direction == 0 ? e : c;
+                boolean reversed = (end == first) != (direction == 0);
+                double added = neighborLegs[offset] + leg(end == first ? last : first, e) - leg(c, e);
+                if (added - removed < -EPSILON) {
+                    moveSegment(first, length, left, reversed);
+                    enqueue(left);
+                    enqueue(right);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean inSegment(int node, int first, int length) {
+        int offset = position[node] - position[first];
+        return (offset < 0 ? offset + size : offset) < length;
+    }
+
+    /**
+     * Moves a segment to follow a node of the tour. Only the nodes between the segment and its new place
+     * are shifted, going around whichever side of the cycle is shorter.
+     */
+    private void moveSegment(int first, int length, int left, boolean reversed) {
+        int start = position[first];
+        for (int offset = 0; offset < length; offset++)
+            segment[reversed ? length - 1 - offset : offset] = tour[(start + offset) % size];
+
+        // nodes from the one after the segment up to the left node, or from after the left node up to the segment
+        int ahead = (position[left] - start - length + 1 + 2 * size) % size;
+        int behind = size - length - ahead;
+        if (ahead <= behind) {
+            for (int index = 0; index < ahead; index++)
+                place(tour[(start + length + index) % size], start + index);
+            for (int offset = 0; offset < length; offset++)
+                place(segment[offset], start + ahead + offset);
+        } else {
+            int end = start + length - 1 + size;  // last position of the segment, kept above the nodes shifted
+            for (int index = 0; index < behind; index++)
+                place(tour[(end - length - index) % size], end - index);
+            for (int offset = 0; offset < length; offset++)
+                place(segment[offset], end - behind - length + 1 + offset);
+        }
+    }
+
+    private void place(int node, int index) {
+        index %= size;
+        tour[index] = node;
+        position[node] = index;
+    }
+}
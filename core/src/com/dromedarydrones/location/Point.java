@@ -7,13 +7,20 @@ import org.w3c.dom.Element;
 import java.util.Objects;
 
 /**
+ * A delivery location with a relative demand weight, such as a dorm that
+ * orders twice as often as a lecture hall. Points are equal if their names
+ * and coordinates are, regardless of their demand.
  * @author  Christian Burns
  */
 public class Point implements XmlSerializable {
 
+    /** demand of a point whose demand was not given, so all points are equally likely */
+    public static final double DEFAULT_DEMAND = 1.0;
+
     private String name;    // name of this delivery location
     private int x;          // latitudinal offset from origin in feet
     private int y;          // longitudinal offset from origin in feet
+    private double demand;  // relative weight of orders placed to this location
 
     /**
      * Constructs a new delivery point from the given name and coordinates.
@@ -30,6 +37,7 @@ public class Point implements XmlSerializable {
         this.name = name;
         x = xPosition;
         y = yPosition;
+        demand = DEFAULT_DEMAND;
     }
 
     /**
@@ -40,12 +48,16 @@ public class Point implements XmlSerializable {
         this.name = other.name;
         this.x = other.x;
         this.y = other.y;
+        this.demand = other.demand;
     }
 
-    public Point(Element root) {
+    public Point(Element root) throws IllegalArgumentException {
         name = root.getAttribute("name");
         x = Integer.parseInt(root.getAttribute("x"));
         y = Integer.parseInt(root.getAttribute("y"));
+        demand = DEFAULT_DEMAND;
+        if (root.hasAttribute("demand"))
+            setDemand(Double.parseDouble(root.getAttribute("demand")));
     }
 
     public String getName() {
@@ -73,6 +85,24 @@ public class Point implements XmlSerializable {
         return y;
     }
 
+    /**
+     * Returns the relative weight of orders placed to this location
+     */
+    public double getDemand() {
+        return demand;
+    }
+
+    /**
+     * Sets the relative weight of orders placed to this location.
+     * @param demand  finite non-negative weight, where 0 means no orders are placed here
+     */
+    public void setDemand(double demand) throws IllegalArgumentException {
+        if (!(demand >= 0) || Double.isInfinite(demand))
+            throw new IllegalArgumentException("Demand must be finite and non-negative.");
+
+        this.demand = demand;
+    }
+
     /**
      * Method for editing the coordinates of a point
      * @param coordinates the x, y values to which the point is set
@@ -119,6 +149,7 @@ public class Point implements XmlSerializable {
         root.setAttribute("name", name);
         root.setAttribute("x", String.valueOf(x));
         root.setAttribute("y", String.valueOf(y));
+        root.setAttribute("demand", String.valueOf(demand));
         return root;
     }
 
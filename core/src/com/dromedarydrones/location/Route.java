@@ -0,0 +1,490 @@
+package com.dromedarydrones.location;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+* Class containing the "route" the drone will take as a queue of {@link Point}s.
+* @author Brendan Ortmann
+*/
+public class Route {
+    /**
+     * Number of points from which annealing only re-evaluates the edges touching a swap. Shorter routes
+     * are summed in full, which costs less than the branching of the incremental evaluation.
+     */
+    private static final int MIN_INCREMENTAL_POINTS = 16;
+    /** Number of annealing iterations between checks of the time limit. */
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+    /**
+     * Nanoseconds a step of exact solving is expected to take when deciding whether it fits in the time left.
+     * Warm runs measured about 2.3, which is rounded up since running late costs more than skipping it.
+     */
+    private static final long NANOS_PER_EXACT_STEP = 3;
+
+    private LinkedList<Point> route;
+    private final DistanceMatrix distances;
+    private final double length;
+
+    public Route(LinkedList<Point> points) throws IllegalArgumentException {
+        this(points, new SplittableRandom());
+    }
+
+    /**
+     * Calculates a route whose simulated annealing draws from the given random number
+     * generator, so the same points and generator state always produce the same route.
+     * @param points the list of {@link Point}s to be routed
+     * @param random the random number generator to use
+     */
+    public Route(LinkedList<Point> points, SplittableRandom random) throws IllegalArgumentException {
+        this(points, points == null ? null : new DistanceMatrix(points), random);
+    }
+
+    /**
+     * Calculates a route looking up the distances between the points in a precomputed matrix.
+     * @param points the list of {@link Point}s to be routed
+     * @param distances the distances between the points, which may contain other points as well
+     * @param random the random number generator to use
+     */
+    public Route(LinkedList<Point> points, DistanceMatrix distances, SplittableRandom random)
+            throws IllegalArgumentException {
+        this(points, distances, random, new RoutingSettings());
+    }
+
+    /**
+     * Calculates a route looking up the distances between the points in a precomputed matrix. Routes of at
+     * most {@link RoutingSettings#getExactLimit()} unique points are solved exactly, longer ones with the
+     * selected {@link RoutingSettings.Algorithm}.
+     * @param points the list of {@link Point}s to be routed
+     * @param distances the distances between the points, which may contain other points as well
+     * @param random the random number generator to use
+     * @param settings the settings selecting how the route is planned
+     */
+    public Route(LinkedList<Point> points, DistanceMatrix distances, SplittableRandom random,
+                 RoutingSettings settings) throws IllegalArgumentException {
+        if(settings == null)
+            throw new IllegalArgumentException("Routing settings cannot be null.");
+        if(points == null)
+            throw new IllegalArgumentException("List of points cannot be null.");
+        if(distances == null)
+            throw new IllegalArgumentException("Distance matrix cannot be null.");
+        if(random == null)
+            throw new IllegalArgumentException("Random number generator cannot be null.");
+
+        this.distances = distances;
+
+        // Calculate the optimal route exactly for few points, otherwise with the selected algorithm
+        int[] ids = new int[points.size()];
+        int index = 0;
+        for(Point point : points)
+            ids[index++] = distances.getId(point);
+        int[] ordered;
+        if(ids.length <= settings.getExactLimit())
+            ordered = calculateRouteHeldKarp(ids);
+        else if(settings.getAlgorithm() == RoutingSettings.Algorithm.LOCAL_SEARCH)
+            ordered = LocalSearch.improve(ids, distances);
+        else if(settings.getChains() > 1)
+            ordered = calculateRouteMultiStartSA(ids, random, settings.getChains(), settings.getTimeLimit());
+        else
+            ordered = calculateRouteSA(ids, random, settings.getTimeLimit() > 0, deadlineOf(settings.getTimeLimit()));
+        route = new LinkedList<>();
+        for(int id : ordered)
+            route.add(distances.getPoint(id));
+        length = ordered.length == 0 ? 0 : getTotalDistance(ordered);
+        //route = calculateRouteDFS(new LinkedList<>(points), 0, 0, getTotalDistance(points));
+    }
+
+    /**
+     * Creates a route that was already planned, such as one found in a {@link RouteCache}.
+     * @param distances the distances between the points
+     * @param order the ids of the points in the order they are visited
+     * @param length the length of the cycle through the origin in feet
+     */
+    Route(DistanceMatrix distances, int[] order, double length) {
+        this.distances = distances;
+        this.length = length;
+        route = new LinkedList<>();
+        for(int id : order)
+            route.add(distances.getPoint(id));
+    }
+
+    /**
+     * Plans a route that is ready by a deadline, such as for a live dispatch decision. The points are first
+     * flown in the given order, which is improved by local search and, for routes short enough to be solved
+     * exactly, replaced by the optimal route if the deadline allows. Every step checks the deadline before
+     * starting and often while running, and the shortest route found by the time it passes is kept.
+     * @param ids the ids of the points to be routed in their initial order
+     * @param initialLength the length of the cycle through the origin visiting the points in their initial order
+     * @param distances the distances between the points
+     * @param settings the settings giving the largest number of points solved exactly
+     * @param deadline the {@link System#nanoTime()} by which the route must be planned
+     */
+    Route(int[] ids, double initialLength, DistanceMatrix distances, RoutingSettings settings, long deadline) {
+        this.distances = distances;
+
+        int[] best = ids;
+        double bestDistance = initialLength;
+        int[] start = ids.clone();
+        int[] improved = System.nanoTime() - deadline < 0
+                ? LocalSearch.improve(start, distances, true, deadline) : start;
+        if(improved != start) { // the search returns the points unchanged if it ran out of time
+            double improvedDistance = getTotalDistance(improved);
+            if(improvedDistance < bestDistance) {
+                best = improved;
+                bestDistance = improvedDistance;
+            }
+        }
+        // Only solve exactly if the roughly 2^n * n^2 steps of doing so are expected to fit in the time left
+        long exactNanos = ids.length <= settings.getExactLimit()
+                ? (1L << ids.length) * ids.length * ids.length * NANOS_PER_EXACT_STEP : 0;
+        if(exactNanos > 0 && exactNanos < deadline - System.nanoTime()) {
+            int[] exact = calculateRouteHeldKarp(ids.clone(), true, deadline);
+            if(exact != null && getTotalDistance(exact) < bestDistance) {
+                best = exact;
+                bestDistance = getTotalDistance(exact);
+            }
+        }
+
+        length = bestDistance;
+        route = new LinkedList<>();
+        for(int id : best)
+            route.add(distances.getPoint(id));
+    }
+
+    /**
+     * Function that calculates the minimum weight Hamiltonian cycle for the given list of {@link Point}s
+     * using recursive backtracking and alpha-beta pruning.
+     * Adapted from <a href="https://www.win.tue.nl/~kbuchin/teaching/2IL15/backtracking.pdf">this paper</a>.
+     * @author Brendan Ortmann
+     * @param currentRoute the list of {@link Point}s
+     * @param index the current index being looked at in the current cycle construction
+     * @param distanceSoFar the distance so far in the current cycle construction
+     * @param bestDistance the smallest distance we've seen in any cycle so far
+     * @return {@code LinkedList} of {@code Point}s which gives the shortest possible distance when traversed in order
+     */
+    private LinkedList<Point> calculateRouteDFS(LinkedList<Point> currentRoute, int index, double distanceSoFar,
+                                               double bestDistance) {
+        int size = currentRoute.size();
+
+        if(size <= 1) // If only one point to deliver to, it's automatically the most efficient route
+            return currentRoute;
+
+        if(index == size) // Base case: if we've looked at every point in the route, update bestDistance
+            bestDistance = Math.min(bestDistance, distanceSoFar + distances.getDistance(currentRoute.get(size-1),
+                    null));
+
+        // Iterate through trying different arrangements
+        for(int otherIndex = index + 1; otherIndex < size; otherIndex++) {
+            swapPoints(index + 1, otherIndex, currentRoute); // Swap points
+            double newLength = distanceSoFar + distances.getDistance(currentRoute.get(index),
+                    currentRoute.get(index + 1));
+            if(newLength >= bestDistance) // Prune routes that we know are worse than one we already have
+                continue;
+            bestDistance = Math.min(bestDistance, getTotalDistance(calculateRouteDFS(currentRoute, index + 1,
+                    newLength, bestDistance)));
+            swapPoints(otherIndex, index + 1, currentRoute); // Reverse the swap
+        }
+
+        return currentRoute;
+    }
+
+    /**
+     * Function that calculates the minimum weight Hamiltonian cycle through the origin for the given list of
+     * {@link Point}s exactly, using the Held-Karp dynamic programming over subsets of the points. The shortest
+     * path from the origin through every subset ending at each of its points is built from the smaller subsets,
+     * taking time proportional to {@code 2^n * n^2} for {@code n} points.
+     * @param points the ids of the {@link Point}s to be routed
+     * @return ids of the {@code Point}s in the order which gives the shortest possible distance when traversed
+     */
+    private int[] calculateRouteHeldKarp(int[] points) {
+        return calculateRouteHeldKarp(points, false, 0);
+    }
+
+    /**
+     * Solves the route exactly like {@link #calculateRouteHeldKarp(int[])}, giving up once the deadline
+     * has passed if the solving is timed.
+     * @param points the ids of the {@link Point}s to be routed
+     * @param timed whether to give up at the deadline
+     * @param deadline the {@link System#nanoTime()} at which to give up
+     * @return ids of the {@code Point}s in the order which gives the shortest possible distance when traversed,
+     * or {@code null} if the deadline passed first
+     */
+    private int[] calculateRouteHeldKarp(int[] points, boolean timed, long deadline) {
+        int count = points.length;
+        if(count <= 2) // Both directions of a cycle have the same length
+            return points;
+
+        // Distances between the points and, in the last row and column, the origin
+        double[] legs = new double[(count + 1) * (count + 1)];
+        for(int from = 0; from <= count; from++)
+            for(int to = 0; to <= count; to++)
+                legs[from * (count + 1) + to] = distances.getDistance(
+                        from < count ? points[from] : DistanceMatrix.ORIGIN,
+                        to < count ? points[to] : DistanceMatrix.ORIGIN);
+
+        int subsets = 1 << count;
+        double[] lengths = new double[subsets * count]; // shortest path through a subset ending at a point
+        int[] previous = new int[subsets * count];      // point visited before the last one on that path
+        Arrays.fill(lengths, Double.POSITIVE_INFINITY);
+        for(int point = 0; point < count; point++)
+            lengths[(1 << point) * count + point] = legs[count * (count + 1) + point];
+
+        // Extend the shortest path through each subset by every point not yet visited
+        for(int subset = 1; subset < subsets; subset++) {
+            if(timed && subset % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0)
+                return null;
+            for(int visited = subset; visited != 0; visited &= visited - 1) {
+                int last = Integer.numberOfTrailingZeros(visited);
+                double length = lengths[subset * count + last];
+                for(int unvisited = ~subset & (subsets - 1); unvisited != 0; unvisited &= unvisited - 1) {
+                    int next = Integer.numberOfTrailingZeros(unvisited);
+                    int extended = (subset | (1 << next)) * count + next;
+                    double extendedLength = length + legs[last * (count + 1) + next];
+                    if(extendedLength < lengths[extended]) {
+                        lengths[extended] = extendedLength;
+                        previous[extended] = last;
+                    }
+                }
+            }
+        }
+
+        // Close the cycle back to the origin and walk the shortest one backwards
+        int all = subsets - 1, last = 0;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for(int point = 0; point < count; point++) {
+            double distance = lengths[all * count + point] + legs[point * (count + 1) + count];
+            if(distance < bestDistance) {
+                bestDistance = distance;
+                last = point;
+            }
+        }
+
+        int[] route = new int[count];
+        for(int subset = all, index = count - 1; index >= 0; index--) {
+            route[index] = points[last];
+            int before = previous[subset * count + last];
+            subset &= ~(1 << last);
+            last = before;
+        }
+        return route;
+    }
+
+    /**
+     * Function that calculates the minimum weight Hamiltonian cycle for the given list of {@link Point}s
+     * using simulated annealing. Adapted from
+     * <a href=https://www.baeldung.com/java-simulated-annealing-for-traveling-salesman>this Baeldung article</a>.
+     * Swaps are only made once accepted and long routes evaluate them from the four affected edges, so no
+     * iteration allocates or walks the whole route. Timed annealing stops early once the deadline has passed.
+     * @param points the ids of the {@link Point}s to be routed, which are reordered in place
+     * @param random the random number generator to use
+     * @param timed whether to stop at the deadline
+     * @param deadline the {@link System#nanoTime()} at which to stop
+     * @return ids of the {@code Point}s in the order which gives approximately the shortest possible distance when
+     * traversed
+     */
+    private int[] calculateRouteSA(int[] points, SplittableRandom random, boolean timed, long deadline) {
+        if(points.length == 0)
+            return points;
+
+        double temperature = 100; // Starting temperature
+        int numIterations = 10000; // Number of iterations before stopping
+        boolean incremental = points.length >= MIN_INCREMENTAL_POINTS;
+        double currentDistance = getTotalDistance(points);
+        double bestDistance = currentDistance;
+
+        for(int index = 0; index < numIterations; index++) {
+            if(temperature < 0.1)
+                break;
+            if(timed && index % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0)
+                break;
+
+            // Try swapping two random indices in route
+            int pointAIndex = random.nextInt(points.length), pointBIndex = random.nextInt(points.length);
+            double distance;
+            if(incremental) {
+                distance = currentDistance + getSwapDelta(pointAIndex, pointBIndex, points);
+            } else {
+                swapPoints(pointAIndex, pointBIndex, points);
+                distance = getTotalDistance(points);
+                swapPoints(pointBIndex, pointAIndex, points);
+            }
+
+            // SA allows for "bad" trades under the second criterion: if false, the swap is not made
+            boolean improved = distance < bestDistance;
+            if(improved)
+                bestDistance = distance;
+            if(improved || Math.exp((bestDistance - distance) / temperature) >= random.nextDouble()) {
+                currentDistance = distance;
+                swapPoints(pointAIndex, pointBIndex, points);
+            }
+
+            temperature *= 0.99; // "Cooling" function to lower temperature iteratively
+            //temperature = (temperature / Math.log(numIterations + 1));
+        }
+
+        return points;
+    }
+
+    /**
+     * Runs several annealing chains on the common {@link ForkJoinPool} and returns the shortest route found.
+     * Every chain starts from the given order and draws from its own generator split off of the given one,
+     * so without a time limit the same points and generator state always produce the same route.
+     * @param points the ids of the {@link Point}s to be routed
+     * @param random the random number generator the chains' generators are split from
+     * @param chains the number of chains
+     * @param timeLimit the most milliseconds the chains may run, or 0 for no limit
+     * @return ids of the {@code Point}s in the order of the shortest route found by any chain
+     */
+    private int[] calculateRouteMultiStartSA(int[] points, SplittableRandom random, int chains, double timeLimit) {
+        boolean timed = timeLimit > 0;
+        long deadline = deadlineOf(timeLimit);
+        SplittableRandom first = random.split();
+        List<ForkJoinTask<int[]>> tasks = new ArrayList<>(chains - 1);
+        for(int chain = 1; chain < chains; chain++) {
+            int[] start = points.clone();
+            SplittableRandom chainRandom = random.split();
+            tasks.add(ForkJoinPool.commonPool().submit(() -> calculateRouteSA(start, chainRandom, timed, deadline)));
+        }
+
+        // the calling thread runs the first chain itself, and ties go to the earliest chain
+        int[] best = calculateRouteSA(points.clone(), first, timed, deadline);
+        double bestDistance = getTotalDistance(best);
+        for(ForkJoinTask<int[]> task : tasks) {
+            int[] tour = task.join();
+            double distance = getTotalDistance(tour);
+            if(distance < bestDistance) {
+                best = tour;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    private static long deadlineOf(double timeLimit) {
+        return System.nanoTime() + (long) (timeLimit * 1e6);
+    }
+
+    /**
+     * Returns the change in total distance of swapping the points at two indices of the route,
+     * computed from the at most four edges that touch them.
+     * @param pointA the index of the first point id
+     * @param pointB the index of the second point id
+     * @param points the ids of the route
+     * @return the distance after the swap minus the distance before it
+     */
+    private double getSwapDelta(int pointA, int pointB, int[] points) {
+        if(pointA == pointB)
+            return 0;
+        if(pointA > pointB) {
+            int swap = pointA;
+            pointA = pointB;
+            pointB = swap;
+        }
+
+        int a = points[pointA], b = points[pointB];
+        int beforeA = pointA == 0 ? DistanceMatrix.ORIGIN : points[pointA - 1];
+        int afterB = pointB == points.length - 1 ? DistanceMatrix.ORIGIN : points[pointB + 1];
+        double removed = distances.getDistance(beforeA, a) + distances.getDistance(b, afterB);
+        double added = distances.getDistance(beforeA, b) + distances.getDistance(a, afterB);
+
+        // Adjacent points keep the edge between them, otherwise both inner edges change as well
+        if(pointB - pointA > 1) {
+            int afterA = points[pointA + 1], beforeB = points[pointB - 1];
+            removed += distances.getDistance(a, afterA) + distances.getDistance(beforeB, b);
+            added += distances.getDistance(b, afterA) + distances.getDistance(beforeB, a);
+        }
+        return added - removed;
+    }
+
+    /**
+     * Swaps two Points in the given collection.
+     * @param pointA the index of the first {@link Point}
+     * @param pointB the index of the second {@code Point}
+     * @param points the collection in which {@code Point}s are swapped
+     */
+    private void swapPoints(int pointA, int pointB, LinkedList<Point> points) {
+        Collections.swap(points, pointA, pointB);
+    }
+
+    /**
+     * Swaps two point ids in the given route.
+     * @param pointA the index of the first id
+     * @param pointB the index of the second id
+     * @param points the ids in which {@code Point}s are swapped
+     */
+    private void swapPoints(int pointA, int pointB, int[] points) {
+        int swap = points[pointA];
+        points[pointA] = points[pointB];
+        points[pointB] = swap;
+    }
+
+    /**
+     * Function that returns the total distance when traversing the given list of points in order. Since the list does
+     * not include the starting {@link Point}, {@code null} is used to calculate the distance
+     * between the given {@code Point} and the starting
+     * {@code Point} at the beginning of the path and the end.
+     * @param points the list of {@code Point}s for which we are calculating the distance
+     * @return the total distance when traversing the {@code Point}s in order
+     */
+    private double getTotalDistance(LinkedList<Point> points) {
+        double distance = 0;
+        Point previousPoint = null;
+        for (Point point : points) {
+            distance += distances.getDistance(previousPoint, point);
+            previousPoint = point;
+        }
+
+        //add distance from last point to the start
+        distance += distances.getDistance(points.get(points.size() - 1), null);
+
+        return distance;
+    }
+
+    /**
+     * Function that returns the total distance when traversing the points with the given ids in order, starting
+     * and ending at the origin.
+     * @param points the ids of the {@code Point}s for which we are calculating the distance
+     * @return the total distance when traversing the {@code Point}s in order
+     */
+    private double getTotalDistance(int[] points) {
+        double distance = 0;
+        int previousPoint = DistanceMatrix.ORIGIN;
+        for (int point : points) {
+            distance += distances.getDistance(previousPoint, point);
+            previousPoint = point;
+        }
+
+        //add distance from last point to the start
+        distance += distances.getDistance(points[points.length - 1], DistanceMatrix.ORIGIN);
+
+        return distance;
+    }
+
+    /**
+     * Getter for route member variable.
+     * @return {@code route} member variable
+     */
+    public LinkedList<Point> getRoute(){
+        return route;
+    }
+
+    /**
+     * Returns the length in feet of the route from the origin through every point and back.
+     */
+    public double getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the distances between the points of the route.
+     */
+    public DistanceMatrix getDistanceMatrix() {
+        return distances;
+    }
+
+}
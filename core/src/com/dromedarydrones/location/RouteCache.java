@@ -0,0 +1,147 @@
+package com.dromedarydrones.location;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe cache of planned routes keyed by the set of points they visit,
+ * so the same few destinations recurring across the flights, trials and threads
+ * of a run are only routed once.
+ * <p>
+ * A set of points is keyed by a bitset of their ids in a {@link DistanceMatrix},
+ * so a cache must only be shared by planners using the same matrix. Once more
+ * than its capacity of routes are cached, the routes cached first are evicted.
+ */
+public final class RouteCache {
+
+    /** Planned order of a set of points and its length. */
+    static final class Entry {
+        final int[] order;      // ids of the points in the order they are visited
+        final double length;    // length in feet of the cycle through the origin
+
+        Entry(int[] order, double length) {
+            this.order = order;
+            this.length = length;
+        }
+    }
+
+    /** Bitset of the ids of a set of points. */
+    static final class Key {
+        private final long[] words;
+        private final int hash;
+
+        private Key(long[] words) {
+            this.words = words;
+            hash = Arrays.hashCode(words);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && Arrays.equals(words, ((Key) other).words);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final int capacity;                         // most routes kept at once
+    private final ConcurrentHashMap<Key, Entry> routes; // cached routes
+    private final Queue<Key> insertions;                // keys in the order they were cached
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates an empty cache.
+     * @param capacity  most routes kept at once
+     */
+    public RouteCache(int capacity) throws IllegalArgumentException {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity must be positive.");
+
+        this.capacity = capacity;
+        routes = new ConcurrentHashMap<>();
+        insertions = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Returns the key of a set of points.
+     * @param ids  ids of the points in any order
+     */
+    static Key keyOf(int[] ids) {
+        int max = 0;
+        for (int id : ids) max = Math.max(max, id);
+        long[] words = new long[(max >> 6) + 1];
+        for (int id : ids) words[id >> 6] |= 1L << id;
+        return new Key(words);
+    }
+
+    /**
+     * Returns the cached route of a set of points, counting the hit or miss.
+     * @param key  key of the points
+     * @return  the route or {@code null} if it is not cached
+     */
+    Entry get(Key key) {
+        Entry entry = routes.get(key);
+        if (entry != null) hits.increment();
+        else misses.increment();
+        return entry;
+    }
+
+    /**
+     * Caches the route of a set of points unless another thread already did,
+     * evicting the oldest routes while the cache holds too many.
+     * @param key    key of the points
+     * @param entry  route of the points
+     */
+    void put(Key key, Entry entry) {
+        if (routes.putIfAbsent(key, entry) != null) return;
+
+        insertions.add(key);
+        while (routes.size() > capacity) {
+            Key oldest = insertions.poll();
+            if (oldest == null) break;
+            if (routes.remove(oldest) != null) evictions.increment();
+        }
+    }
+
+    /**
+     * Returns the most routes kept at once.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of routes currently cached.
+     */
+    public int size() {
+        return routes.size();
+    }
+
+    /**
+     * Returns the number of lookups that found a cached route.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to plan the route.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of routes evicted to stay within the capacity.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+}
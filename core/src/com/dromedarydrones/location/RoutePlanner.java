@@ -0,0 +1,155 @@
+package com.dromedarydrones.location;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Plans the routes of flights between known points with the
+ * distances of a {@link DistanceMatrix} and the algorithm selected
+ * by {@link RoutingSettings}. A planner is immutable apart from its
+ * thread safe {@link RouteCache} and can be shared by every flight
+ * of a run.
+ * <p>
+ * Only routes planned without the random number generator are cached.
+ * They are always planned from the points sorted by id, so a cached route
+ * is the same route that planning the points again would find, and results
+ * do not depend on the cache or on which flight planned a set of points first.
+ */
+public final class RoutePlanner {
+
+    private final DistanceMatrix distances;     // distances between every known point
+    private final RoutingSettings settings;     // how routes are planned
+    private final RouteCache cache;             // routes planned so far, or null if not cached
+
+    /**
+     * Creates a planner with the default routing settings that does not cache routes.
+     * @param distances  distances between every point routes may visit
+     */
+    public RoutePlanner(DistanceMatrix distances) throws IllegalArgumentException {
+        this(distances, new RoutingSettings(), null);
+    }
+
+    /**
+     * Creates a planner with a cache of the size given by the settings.
+     * @param distances  distances between every point routes may visit
+     * @param settings   how routes are planned, which are copied
+     */
+    public RoutePlanner(DistanceMatrix distances, RoutingSettings settings) throws IllegalArgumentException {
+        this(distances, settings, settings != null && settings.getCacheSize() > 0
+                ? new RouteCache(settings.getCacheSize()) : null);
+    }
+
+    /**
+     * Creates a planner.
+     * @param distances  distances between every point routes may visit
+     * @param settings   how routes are planned, which are copied
+     * @param cache      cache of routes between points of the same distance matrix,
+     *                   or {@code null} to not cache routes
+     */
+    public RoutePlanner(DistanceMatrix distances, RoutingSettings settings, RouteCache cache)
+            throws IllegalArgumentException {
+        if (distances == null)
+            throw new IllegalArgumentException("Distance matrix cannot be null.");
+        if (settings == null)
+            throw new IllegalArgumentException("Routing settings cannot be null.");
+
+        this.distances = distances;
+        this.settings = new RoutingSettings(settings);
+        this.cache = cache;
+    }
+
+    /**
+     * Plans the route visiting the unique points.
+     * @param points  unique points to visit
+     * @param random  random number generator used by randomized algorithms
+     */
+    public Route plan(List<Point> points, SplittableRandom random) throws IllegalArgumentException {
+        if (points == null)
+            throw new IllegalArgumentException("List of points cannot be null.");
+        if (!settings.isDeterministic(points.size()))
+            return new Route(new LinkedList<>(points), distances, random, settings);
+
+        int[] ids = new int[points.size()];
+        int index = 0;
+        for (Point point : points)
+            ids[index++] = distances.getId(point);
+        RouteCache.Key key = cache != null ? RouteCache.keyOf(ids) : null;
+        RouteCache.Entry entry = cache != null ? cache.get(key) : null;
+        if (entry != null)
+            return new Route(distances, entry.order, entry.length);
+
+        // plan from the points in a canonical order, so the route only depends on the set of points
+        Arrays.sort(ids);
+        LinkedList<Point> sorted = new LinkedList<>();
+        for (int id : ids)
+            sorted.add(distances.getPoint(id));
+        Route route = new Route(sorted, distances, random, settings);
+
+        if (cache != null) {
+            int[] order = new int[ids.length];
+            index = 0;
+            for (Point point : route.getRoute())
+                order[index++] = distances.getId(point);
+            cache.put(key, new RouteCache.Entry(order, route.getLength()));
+        }
+        return route;
+    }
+
+    /**
+     * Plans the route visiting the unique points within a latency budget, such as for a live
+     * dispatch decision, returning the shortest route found in time. Planning starts from the
+     * points in the given order, which is the route returned if the budget allows nothing else.
+     * Looking up the points and building the returned route take time proportional to their
+     * number whatever the budget. Every other step checks the clock before it starts and at
+     * least once per pass over the points, so the budget is overrun by about one such pass.
+     * Local search only uses the neighbor lists of the distance matrix if they have already
+     * been computed, such as by planning a route with local search without a budget, and
+     * otherwise looks for the neighbors of the points in a grid of their coordinates.
+     * Routes planned within a budget are neither random nor cached.
+     * @param points        unique points to visit in their initial order
+     * @param budgetNanos   positive number of nanoseconds planning may take
+     */
+    public AnytimeRoute planWithin(List<Point> points, long budgetNanos) throws IllegalArgumentException {
+        long start = System.nanoTime();
+        if (points == null)
+            throw new IllegalArgumentException("List of points cannot be null.");
+        if (budgetNanos <= 0)
+            throw new IllegalArgumentException("Budget must be positive.");
+
+        int[] ids = new int[points.size()];
+        int index = 0;
+        double initialLength = 0;
+        int previous = DistanceMatrix.ORIGIN;
+        for (Point point : points) {
+            ids[index] = distances.getId(point);
+            initialLength += distances.getDistance(previous, ids[index]);
+            previous = ids[index++];
+        }
+        initialLength += distances.getDistance(previous, DistanceMatrix.ORIGIN);
+        Route route = new Route(ids, initialLength, distances, settings, start + budgetNanos);
+        return new AnytimeRoute(route, initialLength, System.nanoTime() - start, budgetNanos);
+    }
+
+    /**
+     * Returns the distances between every point routes may visit.
+     */
+    public DistanceMatrix getDistanceMatrix() {
+        return distances;
+    }
+
+    /**
+     * Returns a copy of the routing settings.
+     */
+    public RoutingSettings getSettings() {
+        return new RoutingSettings(settings);
+    }
+
+    /**
+     * Returns the cache of planned routes, or {@code null} if routes are not cached.
+     */
+    public RouteCache getCache() {
+        return cache;
+    }
+}
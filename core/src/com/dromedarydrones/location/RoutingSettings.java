@@ -0,0 +1,233 @@
+package com.dromedarydrones.location;
+
+import com.dromedarydrones.xml.XmlSerializable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Settings controlling how the routes of a simulation's flights are planned.
+ * <p>
+ * Routes of at most {@link #getExactLimit()} unique points are always solved
+ * exactly. Longer routes are planned with the selected {@link Algorithm}.
+ * Routes that do not depend on a random number generator are kept in a
+ * {@link RouteCache} of up to {@link #getCacheSize()} routes shared by every
+ * trial of a run.
+ * <p>
+ * Annealing can run several independently seeded chains in parallel on the
+ * common fork-join pool and keep the shortest route, optionally stopping
+ * them after a time limit. Results only stay reproducible without one.
+ */
+public class RoutingSettings implements XmlSerializable {
+
+    /** Algorithms planning routes too long to be solved exactly. */
+    public enum Algorithm {
+        /** randomized simulated annealing of the points in the order they were loaded */
+        ANNEALING("annealing"),
+        /** deterministic nearest neighbor tour improved by 2-opt and Or-opt moves */
+        LOCAL_SEARCH("local_search");
+
+        private final String xmlName;
+
+        Algorithm(String xmlName) {
+            this.xmlName = xmlName;
+        }
+
+        /**
+         * Returns the name of the algorithm in XML.
+         */
+        public String getXmlName() {
+            return xmlName;
+        }
+
+        /**
+         * Returns the algorithm with the given name in XML.
+         * @param name  name of the algorithm
+         * @throws IllegalArgumentException  if no algorithm has the name
+         */
+        public static Algorithm fromXmlName(String name) throws IllegalArgumentException {
+            for (Algorithm algorithm : values())
+                if (algorithm.xmlName.equals(name)) return algorithm;
+            throw new IllegalArgumentException("Unknown routing algorithm \"" + name + "\".");
+        }
+    }
+
+    public static final Algorithm DEFAULT_ALGORITHM = Algorithm.ANNEALING;  // original route planning
+    public static final int DEFAULT_EXACT_LIMIT = 8;    // exact solving is as fast as annealing up to 8 points
+    public static final int MAX_EXACT_LIMIT = 16;       // memory of exact solving grows with 2^n
+    public static final int DEFAULT_CACHE_SIZE = 4096;  // routes cached during a run
+    public static final int DEFAULT_CHAINS = 1;         // original single annealing chain
+
+    private Algorithm algorithm;    // algorithm planning routes too long to be solved exactly
+    private int exactLimit;         // largest number of unique points solved exactly
+    private int cacheSize;          // most routes cached during a run, 0 to disable caching
+    private int chains;             // number of annealing chains run in parallel
+    private double timeLimit;       // most milliseconds annealing may run, 0 for no limit
+
+    /**
+     * Default constructor that initializes the default settings.
+     * <pre>
+     * algorithm   = annealing
+     * exact limit = 8 points
+     * cache size  = 4096 routes
+     * chains      = 1
+     * time limit  = none
+     * </pre>
+     */
+    public RoutingSettings() {
+        algorithm = DEFAULT_ALGORITHM;
+        exactLimit = DEFAULT_EXACT_LIMIT;
+        cacheSize = DEFAULT_CACHE_SIZE;
+        chains = DEFAULT_CHAINS;
+        timeLimit = 0;
+    }
+
+    /**
+     * Copy constructor that creates a deep copy of existing routing settings.
+     * @param other  the other instance to be cloned
+     */
+    public RoutingSettings(RoutingSettings other) {
+        this.algorithm = other.algorithm;
+        this.exactLimit = other.exactLimit;
+        this.cacheSize = other.cacheSize;
+        this.chains = other.chains;
+        this.timeLimit = other.timeLimit;
+    }
+
+    /**
+     * Initialize routing settings from an XML object.
+     * @param root  xml element containing routing settings
+     */
+    public RoutingSettings(Element root) throws IllegalArgumentException {
+        this();
+
+        if (root.hasAttribute("algorithm"))
+            setAlgorithm(Algorithm.fromXmlName(root.getAttribute("algorithm")));
+
+        if (root.hasAttribute("exact_limit"))
+            setExactLimit(Integer.parseInt(root.getAttribute("exact_limit")));
+
+        if (root.hasAttribute("cache_size"))
+            setCacheSize(Integer.parseInt(root.getAttribute("cache_size")));
+
+        if (root.hasAttribute("chains"))
+            setChains(Integer.parseInt(root.getAttribute("chains")));
+
+        if (root.hasAttribute("time_limit"))
+            setTimeLimit(Double.parseDouble(root.getAttribute("time_limit")));
+    }
+
+    /**
+     * Returns the algorithm planning routes too long to be solved exactly.
+     */
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Sets the algorithm planning routes too long to be solved exactly.
+     * @param algorithm  routing algorithm
+     */
+    public void setAlgorithm(Algorithm algorithm) throws IllegalArgumentException {
+        if (algorithm == null)
+            throw new IllegalArgumentException("Algorithm cannot be null.");
+
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Returns the largest number of unique points whose route is solved exactly.
+     */
+    public int getExactLimit() {
+        return exactLimit;
+    }
+
+    /**
+     * Sets the largest number of unique points whose route is solved exactly.
+     * @param limit  number of points between 0 and {@link #MAX_EXACT_LIMIT}
+     */
+    public void setExactLimit(int limit) throws IllegalArgumentException {
+        if (limit < 0 || limit > MAX_EXACT_LIMIT)
+            throw new IllegalArgumentException("Exact limit must be between 0 and " + MAX_EXACT_LIMIT + ".");
+
+        exactLimit = limit;
+    }
+
+    /**
+     * Returns the most routes cached during a run, or 0 if routes are not cached.
+     */
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Sets the most routes cached during a run.
+     * @param size  number of routes, or 0 to disable caching
+     */
+    public void setCacheSize(int size) throws IllegalArgumentException {
+        if (size < 0)
+            throw new IllegalArgumentException("Cache size cannot be negative.");
+
+        cacheSize = size;
+    }
+
+    /**
+     * Returns the number of annealing chains run in parallel for each route.
+     */
+    public int getChains() {
+        return chains;
+    }
+
+    /**
+     * Sets the number of annealing chains run in parallel for each route.
+     * @param chains  positive number of chains
+     */
+    public void setChains(int chains) throws IllegalArgumentException {
+        if (chains < 1)
+            throw new IllegalArgumentException("Number of chains must be positive.");
+
+        this.chains = chains;
+    }
+
+    /**
+     * Returns the most milliseconds annealing a route may take, or 0 if it is not limited.
+     */
+    public double getTimeLimit() {
+        return timeLimit;
+    }
+
+    /**
+     * Sets the most milliseconds annealing a route may take.
+     * @param timeLimit  milliseconds, or 0 to not limit annealing
+     */
+    public void setTimeLimit(double timeLimit) throws IllegalArgumentException {
+        if (timeLimit < 0)
+            throw new IllegalArgumentException("Time limit cannot be negative.");
+
+        this.timeLimit = timeLimit;
+    }
+
+    /**
+     * Returns {@code true} if routes of a number of unique points are planned
+     * without a random number generator, so the same points always get the same route.
+     * @param pointCount  number of unique points
+     */
+    public boolean isDeterministic(int pointCount) {
+        return pointCount <= exactLimit || algorithm == Algorithm.LOCAL_SEARCH;
+    }
+
+    /**
+     * Builds the XML element representing these routing settings.
+     * @param document  XML document
+     * @return  XML element
+     */
+    @Override
+    public Element toXml(Document document) {
+        Element root = document.createElement("routing");
+        root.setAttribute("algorithm", algorithm.getXmlName());
+        root.setAttribute("exact_limit", String.valueOf(exactLimit));
+        root.setAttribute("cache_size", String.valueOf(cacheSize));
+        root.setAttribute("chains", String.valueOf(chains));
+        root.setAttribute("time_limit", String.valueOf(timeLimit));
+        return root;
+    }
+}
@@ -15,6 +15,7 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Scanner;
 
 /**
@@ -190,91 +191,66 @@ public class Configuration implements XmlSerializable {
                 // collect all the results
                 StringBuilder builder = new StringBuilder();
 
+                List<String> strategies = results.getStrategyNames();
+                int strategyCount = strategies.size();
+
                 // format the headers
-                String title = "\n,Fifo,Knapsack\n";
-                String average = String.format("Average (sec),%.2f,%.2f\n",
-                        results.getAverageFifoTime(), results.getAverageKnapsackTime());
-                String worst = String.format("Worst (sec),%.2f,%.2f\n",
-                        results.getWorstFifoTime(), results.getWorstKnapsackTime());
-                String header = ",,Fifo,,,,,Knapsack\n";
-                String columns = ",meal,ordered,delivered,wait (sec),,meal,ordered,delivered,wait (sec)\n";
+                StringBuilder title = new StringBuilder("\n");
+                StringBuilder average = new StringBuilder("Average (sec)");
+                StringBuilder worst = new StringBuilder("Worst (sec)");
+                StringBuilder header = new StringBuilder(",");
+                StringBuilder columns = new StringBuilder();
+                for (int index = 0; index < strategyCount; index++) {
+                    String strategy = strategies.get(index);
+                    String strategyTitle = Character.toUpperCase(strategy.charAt(0)) + strategy.substring(1);
+                    title.append(',').append(strategyTitle);
+                    average.append(String.format(Locale.ROOT, ",%.2f", results.getAverageTime(strategy)));
+                    worst.append(String.format(Locale.ROOT, ",%.2f", results.getWorstTime(strategy)));
+                    header.append(index == 0 ? "," : ",,,,,").append(strategyTitle);
+                    columns.append(index == 0 ? "," : ",,").append("meal,ordered,delivered,wait (sec)");
+                }
 
                 // add the headers
-                builder.append(title).append(average).append(worst)
-                        .append("\n\n").append(header).append(columns);
+                builder.append(title).append('\n').append(average).append('\n').append(worst).append('\n')
+                        .append("\n\n").append(header).append('\n').append(columns).append('\n');
 
                 // print the results of each trial
-                int trialNumber, orderNumber, minSize, fifoSize, knapsackSize;
-                Order fifoOrder, knapsackOrder;
-                String trialInfo, fifoName, knapsackName;
-                double fifoTimeOrdered, fifoTimeDelivered, fifoWaitTime;
-                double knapsackTimeOrdered, knapsackTimeDelivered, knapsackWaitTime;
-                int numberTrials = results.getTrialResults().size();
                 ArrayList<TrialResults> trialResults = results.getTrialResults();
+                int numberTrials = trialResults.size();
 
-                // for each of the 50 trials...
-                for (trialNumber = 0; trialNumber < numberTrials; trialNumber++) {
+                // for each of the trials...
+                for (int trialNumber = 0; trialNumber < numberTrials; trialNumber++) {
 
                     TrialResults trial = trialResults.get(trialNumber);
-                    List<Order> fifoOrders = trial.getFifoDeliveries();
-                    List<Order> knapsackOrders = trial.getKnapsackDeliveries();
-                    fifoSize = fifoOrders.size();
-                    knapsackSize = knapsackOrders.size();
-                    minSize = Math.min(fifoOrders.size(), knapsackOrders.size());
-
-                    // for each order shared between the two sets of orders
-                    for (orderNumber = 0; orderNumber < minSize; orderNumber++) {
-                        fifoOrder = fifoOrders.get(orderNumber);
-                        knapsackOrder = knapsackOrders.get(orderNumber);
-
-                        trialInfo = orderNumber == 0 ? "trial " + (trialNumber + 1) : "";
-                        fifoName = fifoOrder.getMealOrdered().getName();
-                        fifoTimeOrdered = fifoOrder.getTimeOrdered();
-                        fifoTimeDelivered = fifoOrder.getTimeDelivered();
-                        fifoWaitTime = fifoOrder.getWaitTime();
-
-                        knapsackName = knapsackOrder.getMealOrdered().getName();
-                        knapsackTimeOrdered = knapsackOrder.getTimeOrdered();
-                        knapsackTimeDelivered = knapsackOrder.getTimeDelivered();
-                        knapsackWaitTime = knapsackOrder.getWaitTime();
-
-                        String row = String.format("%s,%s,%.2f,%.2f,%.2f,,%s,%.2f,%.2f,%.2f\n", trialInfo,
-                                fifoName, fifoTimeOrdered, fifoTimeDelivered, fifoWaitTime,
-                                knapsackName, knapsackTimeOrdered, knapsackTimeDelivered, knapsackWaitTime);
-
-                        builder.append(row);
-                    }
-
-                    // for each order that exists in fifo but not knapsack
-                    for (; orderNumber < fifoSize; orderNumber++) {
-                        fifoOrder = fifoOrders.get(orderNumber);
-
-                        trialInfo = orderNumber == 0 ? "trial " + (trialNumber + 1) : "";
-                        fifoName = fifoOrder.getMealOrdered().getName();
-                        fifoTimeOrdered = fifoOrder.getTimeOrdered();
-                        fifoTimeDelivered = fifoOrder.getTimeDelivered();
-                        fifoWaitTime = fifoOrder.getWaitTime();
-
-                        String row = String.format("%s,%s,%.2f,%.2f,%.2f\n", trialInfo,
-                                fifoName, fifoTimeOrdered, fifoTimeDelivered, fifoWaitTime);
-
-                        builder.append(row);
+                    List<List<Order>> deliveries = new ArrayList<>();
+                    int maxSize = 0;
+                    for (String strategy : strategies) {
+                        List<Order> orders = trial.getStrategyResults(strategy).getDeliveries();
+                        deliveries.add(orders);
+                        maxSize = Math.max(maxSize, orders.size());
                     }
 
-                    // for each order that exists in knapsack but not fifo
-                    for (; orderNumber < knapsackSize; orderNumber++) {
-                        knapsackOrder = knapsackOrders.get(trialNumber);
-
-                        trialInfo = orderNumber == 0 ? "trial " + (trialNumber + 1) : "";
-                        knapsackName = knapsackOrder.getMealOrdered().getName();
-                        knapsackTimeOrdered = knapsackOrder.getTimeOrdered();
-                        knapsackTimeDelivered = knapsackOrder.getTimeDelivered();
-                        knapsackWaitTime = knapsackOrder.getWaitTime();
-
-                        String row = String.format("%s,,,,,,%s,%.2f,%.2f,%.2f\n", trialInfo,
-                                knapsackName, knapsackTimeOrdered, knapsackTimeDelivered, knapsackWaitTime);
-
-                        builder.append(row);
+                    // for each order of any strategy, side by side
+                    for (int orderNumber = 0; orderNumber < maxSize; orderNumber++) {
+                        StringBuilder row = new StringBuilder(orderNumber == 0 ? "trial " + (trialNumber + 1) : "");
+                        int rowLength = row.length();
+                        for (int index = 0; index < strategyCount; index++) {
+                            if (index > 0) row.append(',');
+                            List<Order> orders = deliveries.get(index);
+                            if (orderNumber < orders.size()) {
+                                Order order = orders.get(orderNumber);
+                                row.append(String.format(Locale.ROOT, ",%s,%.2f,%.2f,%.2f",
+                                        order.getMealOrdered().getName(), order.getTimeOrdered(),
+                                        order.getTimeDelivered(), order.getWaitTime()));
+                                rowLength = row.length();
+                            } else {
+                                row.append(",,,,");
+                            }
+                        }
+
+                        // leave out the empty cells of strategies that delivered fewer orders
+                        row.setLength(rowLength);
+                        builder.append(row).append('\n');
                     }
 
                     builder.append("\n");
@@ -0,0 +1,349 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.food.Order;
+import com.dromedarydrones.location.RoutePlanner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+/**
+ * Discrete-event simulation of a fleet of drones delivering the orders of one
+ * trial with a single {@link PackingStrategy packing strategy}. Instead of advancing the clock a second
+ * at a time, the orders sorted by the time they are placed are merged with a
+ * time-ordered queue of drone departures, deliveries and drone returns, and the
+ * clock jumps straight to the next arrival or event, so the cost of a trial is
+ * proportional to its number of orders and flights. Arrivals are not queued as
+ * events and are processed before any event occurring at the same time.
+ * <p>
+ * Drones waiting at the origin are kept in a priority queue keyed on the time
+ * they became available, and payloads are assigned to whichever drone has been
+ * waiting the longest. A waiting drone only notices new orders on whole seconds
+ * after it became idle, exactly like the original one second ticks, so a single
+ * drone delivers exactly as the tick based simulation did.
+ * <p>
+ * Orders are read from and delivered into an {@link OrderStore} by their position.
+ * Events are kept in parallel arrays, each drone reuses a single payload and the
+ * orders of every flight are recorded in one array sized for the whole trial, so
+ * a flight allocates nothing beyond planning its route.
+ */
+class DeliverySimulation {
+
+    /** Kinds of events, in the order they are processed when they occur at the same time. */
+    private enum EventType {
+        /** the last meal of a flight is dropped off */
+        DELIVERY,
+        /** a drone lands back at the origin */
+        RETURN,
+        /** waiting drones are loaded with the available orders and take off */
+        DEPARTURE
+    }
+
+    /**
+     * Binary heap of events ordered by time then type then creation. An event refers
+     * to the orders of a flight delivered, the drone returning, or nothing at all.
+     */
+    private static final class EventQueue {
+        private EventType[] types;
+        private double[] times;
+        private long[] sequences;   // tie breaker keeping same time events in creation order
+        private int[] subjects;     // first flown order of the flight or index of the drone returning
+        private int[] counts;       // number of orders of the flight
+        private int size;
+        private long sequence;      // number of events scheduled so far
+
+        private EventQueue(int capacity) {
+            types = new EventType[capacity];
+            times = new double[capacity];
+            sequences = new long[capacity];
+            subjects = new int[capacity];
+            counts = new int[capacity];
+        }
+
+        private void add(EventType type, double time, int subject, int count) {
+            if (size == times.length) {
+                types = Arrays.copyOf(types, size * 2);
+                times = Arrays.copyOf(times, size * 2);
+                sequences = Arrays.copyOf(sequences, size * 2);
+                subjects = Arrays.copyOf(subjects, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            int index = size++;
+            set(index, type, time, sequence++, subject, count);
+            while (index > 0 && isBefore(index, (index - 1) / 2)) {
+                swap(index, (index - 1) / 2);
+                index = (index - 1) / 2;
+            }
+        }
+
+        /**
+         * Removes the first event, which the peek methods refer to until then.
+         */
+        private void remove() {
+            size--;
+            set(0, types[size], times[size], sequences[size], subjects[size], counts[size]);
+            int index = 0;
+            while (2 * index + 1 < size) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && isBefore(child + 1, child)) child++;
+                if (!isBefore(child, index)) break;
+                swap(index, child);
+                index = child;
+            }
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private EventType peekType() {
+            return types[0];
+        }
+
+        private double peekTime() {
+            return times[0];
+        }
+
+        private int peekSubject() {
+            return subjects[0];
+        }
+
+        private int peekCount() {
+            return counts[0];
+        }
+
+        private boolean isBefore(int first, int second) {
+            int result = Double.compare(times[first], times[second]);
+            if (result == 0) result = types[first].compareTo(types[second]);
+            if (result == 0) result = Long.compare(sequences[first], sequences[second]);
+            return result < 0;
+        }
+
+        private void set(int index, EventType type, double time, long sequence, int subject, int count) {
+            types[index] = type;
+            times[index] = time;
+            sequences[index] = sequence;
+            subjects[index] = subject;
+            counts[index] = count;
+        }
+
+        private void swap(int first, int second) {
+            EventType type = types[first];
+            double time = times[first];
+            long sequence = sequences[first];
+            int subject = subjects[first], count = counts[first];
+            set(first, types[second], times[second], sequences[second], subjects[second], counts[second]);
+            set(second, type, time, sequence, subject, count);
+        }
+    }
+
+    /** Drone of the fleet, ordered by the time it became available then its position in the fleet. */
+    private static final class FleetDrone implements Comparable<FleetDrone> {
+        private final int index;                        // position in the fleet
+        private final Drone settings;                   // settings of the drone
+        private final DroneUtilization utilization;     // flights made by the drone
+        private final PayloadTracker payload;           // payload of the drone's next flight
+        private double idleSince;                       // time the drone last found nothing to deliver
+
+        private FleetDrone(int index, Drone settings, PayloadTracker payload) {
+            this.index = index;
+            this.settings = settings;
+            this.utilization = new DroneUtilization();
+            this.payload = payload;
+        }
+
+        @Override
+        public int compareTo(FleetDrone other) {
+            int result = Double.compare(idleSince, other.idleSince);
+            return result != 0 ? result : Integer.compare(index, other.index);
+        }
+    }
+
+    private final List<FleetDrone> fleet;           // every drone of the fleet
+    private final OrderStore orders;                // orders sorted by the time they are placed
+    private final int strategyIndex;                // index of the strategy whose delivery times are set
+    private final PackingStrategy strategy;         // decides which waiting orders each flight carries
+    private final RoutePlanner planner;             // plans routes between the delivery points
+    private final SplittableRandom random;          // random number generator for routes
+    private final WaitTimeStatistics statistics;    // wait times of the delivered orders
+    private final List<Order> results;              // delivered orders if they are kept otherwise null
+    private int nextArrival;                        // position of the next order to be placed
+    private final int[] flown;                      // orders of every flight in the order they took off
+    private int flownCount;                         // number of orders that took off
+    private final EventQueue events;                // pending events ordered by time
+    private final PriorityQueue<FleetDrone> waitingDrones;  // drones at the origin waiting for orders
+    private final List<FleetDrone> unloaded;        // drones found nothing to load by the current dispatch
+    private boolean departureScheduled;             // whether a waiting drone will already check for orders
+    private double endTime;                         // time the last drone landed
+
+    /**
+     * Creates a simulation delivering the orders of a store.
+     * @param drones         drones of the fleet
+     * @param orders         orders placed during the trial sorted by the time they are placed
+     * @param strategyIndex  index of the packing strategy in the trial, whose delivery times are set
+     * @param strategy       packing strategy loading the drones
+     * @param planner        planner of the routes to the destinations of the orders
+     * @param random         random number generator used to plan routes
+     * @param statistics     accumulator the wait times are added to
+     * @param results        list the delivered orders are added to or null if they are not kept
+     */
+    DeliverySimulation(List<Drone> drones, OrderStore orders, int strategyIndex, PackingStrategy strategy,
+                       RoutePlanner planner, SplittableRandom random, WaitTimeStatistics statistics,
+                       List<Order> results) {
+        this.orders = orders;
+        this.strategyIndex = strategyIndex;
+        this.strategy = strategy;
+        this.planner = planner;
+        this.random = random;
+        this.statistics = statistics;
+        this.results = results;
+
+        // every drone starts out waiting at the origin
+        fleet = new ArrayList<>(drones.size());
+        waitingDrones = new PriorityQueue<>(drones.size());
+        unloaded = new ArrayList<>(drones.size());
+        for (Drone drone : drones) {
+            FleetDrone fleetDrone = new FleetDrone(fleet.size(), drone,
+                    new PayloadTracker(drone, planner.getDistanceMatrix()));
+            fleet.add(fleetDrone);
+            waitingDrones.add(fleetDrone);
+        }
+
+        flown = new int[orders.size()];
+        events = new EventQueue(2 * drones.size() + 2);
+    }
+
+    /**
+     * Runs the simulation until every order has been delivered.
+     * @throws IllegalStateException  if orders remain that no drone can ever carry
+     */
+    void run() throws IllegalStateException {
+        int arrivals = orders.size();
+        while (nextArrival < arrivals || !events.isEmpty()) {
+            if (nextArrival < arrivals && (events.isEmpty()
+                    || orders.getTimeOrdered(nextArrival) <= events.peekTime())) {
+                arrive(nextArrival++);
+                continue;
+            }
+
+            EventType type = events.peekType();
+            double time = events.peekTime();
+            int subject = events.peekSubject(), count = events.peekCount();
+            events.remove();
+            switch (type) {
+                case DEPARTURE:
+                    departureScheduled = false;
+                    dispatch(time, null);
+                    break;
+                case DELIVERY:
+                    for (int index = subject; index < subject + count; index++) {
+                        statistics.add(orders.getWaitTime(strategyIndex, flown[index]));
+                        if (results != null)
+                            results.add(orders.toOrder(strategyIndex, flown[index]));
+                    }
+                    break;
+                case RETURN:
+                    endTime = time;
+                    dispatch(time, fleet.get(subject));
+                    break;
+            }
+        }
+
+        if (strategy.hasWaitingOrders())
+            throw new IllegalStateException("Orders remain that exceed every drone's payload or flight time.");
+        for (FleetDrone drone : fleet)
+            drone.utilization.addElapsedTime(endTime);
+    }
+
+    /**
+     * Makes a placed order available for loading and wakes up the drone
+     * that has been waiting the longest, unless one is already waking up.
+     */
+    private void arrive(int order) {
+        strategy.orderArrived(order);
+        if (!departureScheduled && !waitingDrones.isEmpty()) {
+            double wakeUp = tickUntil(waitingDrones.peek().idleSince, orders.getTimeOrdered(order));
+            events.add(EventType.DEPARTURE, wakeUp, 0, 0);
+            departureScheduled = true;
+        }
+    }
+
+    /**
+     * Returns the utilization of every drone of the fleet in fleet order.
+     */
+    List<DroneUtilization> getUtilization() {
+        List<DroneUtilization> utilization = new ArrayList<>(fleet.size());
+        for (FleetDrone drone : fleet) utilization.add(drone.utilization);
+        return utilization;
+    }
+
+    /**
+     * Loads the available orders onto a returning drone and then onto the drones
+     * that have been waiting the longest. Drones that cannot be loaded wait again.
+     * @param time       current time
+     * @param returning  drone that just landed or null
+     */
+    private void dispatch(double time, FleetDrone returning) {
+        FleetDrone drone = returning;
+        if (drone == null && strategy.hasWaitingOrders())
+            drone = waitingDrones.poll();
+
+        while (drone != null) {
+            drone.payload.clear();
+            strategy.loadPayload(orders, drone.payload);
+            if (drone.payload.size() == 0) {
+                drone.idleSince = time;
+                unloaded.add(drone);
+            } else {
+                fly(drone, time);
+            }
+            drone = strategy.hasWaitingOrders() ? waitingDrones.poll() : null;
+        }
+        waitingDrones.addAll(unloaded);
+        unloaded.clear();
+    }
+
+    /**
+     * Reloads a drone and flies the deliveries of its payload.
+     */
+    private void fly(FleetDrone drone, double time) {
+        PayloadTracker payload = drone.payload;
+        double takeOff = time + drone.settings.getTurnAroundTime();
+        double landing = takeOff + drone.settings.deliver(orders, strategyIndex, payload, takeOff, planner, random);
+        drone.utilization.addFlight(payload.size(), landing - time);
+
+        int first = flownCount;
+        double lastDelivery = takeOff;
+        for (int index = 0; index < payload.size(); index++) {
+            int order = payload.getOrder(index);
+            flown[flownCount++] = order;
+            lastDelivery = Math.max(lastDelivery, orders.getTimeDelivered(strategyIndex, order));
+        }
+        events.add(EventType.DELIVERY, lastDelivery, first, payload.size());
+        events.add(EventType.RETURN, landing, drone.index, 0);
+    }
+
+    /**
+     * Returns the first time at or after the target that is reached by ticking an idle
+     * clock one second at a time, rounding exactly like repeatedly adding one would.
+     * Whole seconds added below the next power of two are exact, so only the ticks
+     * crossing a power of two need to be taken individually.
+     * @param time    time the clock became idle
+     * @param target  time to tick up to
+     */
+    static double tickUntil(double time, double target) {
+        while (time < target) {
+            if (time < 1) {
+                time += 1;
+                continue;
+            }
+            double binadeEnd = Math.scalb(1.0, Math.getExponent(time) + 1);
+            double exactTicks = Math.ceil(binadeEnd - time) - 1;
+            double ticks = Math.min(exactTicks, Math.ceil(target - time));
+            time += ticks >= 1 ? ticks : 1;
+        }
+        return time;
+    }
+}
@@ -1,8 +1,10 @@
 package com.dromedarydrones.mainapp;
 
 import com.dromedarydrones.food.Order;
+import com.dromedarydrones.location.DistanceMatrix;
 import com.dromedarydrones.location.Point;
 import com.dromedarydrones.location.Route;
+import com.dromedarydrones.location.RoutePlanner;
 import com.dromedarydrones.xml.XmlSerializable;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -10,6 +12,7 @@ import org.w3c.dom.Element;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Drone utility for tracking drone settings and calculating order delivery times.
@@ -100,6 +103,40 @@ public class Drone implements XmlSerializable {
      *                           if the flight time exceeded the set limit
      */
     public double deliver(List<Order> orders, double currentTime) throws IllegalArgumentException {
+        return deliver(orders, currentTime, new SplittableRandom());
+    }
+
+    /**
+     * Calculates the delivery times for a set of meals to be delivered,
+     * planning the route with the given random number generator.
+     * @param orders       orders that need to be delivered
+     * @param currentTime  current time in the simulation
+     * @param random       random number generator used to plan the route
+     * @return             time in seconds it took to deliver all meals
+     * @throws RuntimeException  if payload exceeds max takeoff weight or
+     *                           if the flight time exceeded the set limit
+     */
+    public double deliver(List<Order> orders, double currentTime, SplittableRandom random)
+            throws IllegalArgumentException {
+        if(orders == null)
+            throw new IllegalArgumentException("Order list cannot be null.");
+
+        return deliver(orders, currentTime, plannerOf(orders), random);
+    }
+
+    /**
+     * Calculates the delivery times for a set of meals to be delivered,
+     * planning the route with the given planner and random number generator.
+     * @param orders       orders that need to be delivered
+     * @param currentTime  current time in the simulation
+     * @param planner      planner knowing the destinations of the orders
+     * @param random       random number generator used to plan the route
+     * @return             time in seconds it took to deliver all meals
+     * @throws RuntimeException  if payload exceeds max takeoff weight or
+     *                           if the flight time exceeded the set limit
+     */
+    public double deliver(List<Order> orders, double currentTime, RoutePlanner planner, SplittableRandom random)
+            throws IllegalArgumentException {
         if(orders == null)
             throw new IllegalArgumentException("Order list cannot be null.");
 
@@ -109,7 +146,8 @@ public class Drone implements XmlSerializable {
                     "Payload exceeds max takeoff weight of " + maxPayloadWeight + " ounces.");
 
         // ensure the drone can deliver without exceeding flight time
-        Route route = ordersToRoute(orders);
+        Route route = ordersToRoute(orders, planner, random);
+        DistanceMatrix distances = route.getDistanceMatrix();
         if (!isSafeFlightTime(route))
             throw new RuntimeException(
                     "Drone lost power mid-flight after flying for " + flightTime + " seconds.");
@@ -124,7 +162,7 @@ public class Drone implements XmlSerializable {
         for (Point point : flightPlan) {
 
             // determine time to fly and deliver
-            distance = point.distanceFromPoint(position);
+            distance = distances.getDistance(position, point);
             seconds = distance / cruisingSpeed;
             duration += seconds + deliveryTime;
             position = point;
@@ -138,7 +176,73 @@ public class Drone implements XmlSerializable {
 
         // fly back to origin
         if (position != null) {
-            distance = position.distanceFromPoint(null);
+            distance = distances.getDistance(position, null);
+            seconds = distance / cruisingSpeed;
+            duration += seconds;
+        }
+
+        return duration;
+    }
+
+    /**
+     * Calculates the delivery times for a payload of orders kept in a store,
+     * planning the route with the given planner and random number generator.
+     * @param orders       store the orders of the payload are kept in
+     * @param strategy     index of the packing strategy whose delivery times are set
+     * @param payload      orders that need to be delivered
+     * @param currentTime  current time in the simulation
+     * @param planner      planner knowing the destinations of the orders
+     * @param random       random number generator used to plan the route
+     * @return             time in seconds it took to deliver all meals
+     * @throws RuntimeException  if payload exceeds max takeoff weight or
+     *                           if the flight time exceeded the set limit
+     */
+    public double deliver(OrderStore orders, int strategy, PayloadTracker payload, double currentTime,
+                          RoutePlanner planner, SplittableRandom random) throws IllegalArgumentException {
+        if(orders == null || payload == null)
+            throw new IllegalArgumentException("Orders and payload cannot be null.");
+
+        // ensure the drone can take off
+        if (payload.getWeight() > maxPayloadWeight)
+            throw new RuntimeException(
+                    "Payload exceeds max takeoff weight of " + maxPayloadWeight + " ounces.");
+
+        // ensure the drone can deliver without exceeding flight time
+        DistanceMatrix distances = planner.getDistanceMatrix();
+        List<Point> waypoints = new ArrayList<>(payload.getStopCount());
+        for (int index = 0; index < payload.getStopCount(); index++)
+            waypoints.add(distances.getPoint(payload.getStop(index)));
+        Route route = planner.plan(waypoints, random);
+        if (!isSafeFlightTime(route))
+            throw new RuntimeException(
+                    "Drone lost power mid-flight after flying for " + flightTime + " seconds.");
+
+        // deliver orders
+        double distance, seconds;
+        double duration = 0;
+        int position = DistanceMatrix.ORIGIN;
+
+        // fly to each waypoint
+        for (Point point : route.getRoute()) {
+
+            // determine time to fly and deliver
+            int stop = distances.getId(point);
+            distance = distances.getDistance(position, stop);
+            seconds = distance / cruisingSpeed;
+            duration += seconds + deliveryTime;
+            position = stop;
+
+            // set the delivery time to now
+            for (int index = 0; index < payload.size(); index++) {
+                int order = payload.getOrder(index);
+                if (orders.getDestinationId(order) == position)
+                    orders.setTimeDelivered(strategy, order, currentTime + duration);
+            }
+        }
+
+        // fly back to origin
+        if (position != DistanceMatrix.ORIGIN) {
+            distance = distances.getDistance(position, DistanceMatrix.ORIGIN);
             seconds = distance / cruisingSpeed;
             duration += seconds;
         }
@@ -158,13 +262,14 @@ public class Drone implements XmlSerializable {
             throw new IllegalArgumentException("Route cannot be null.");
 
         LinkedList<Point> flightPlan = route.getRoute();
+        DistanceMatrix distances = route.getDistanceMatrix();
         double distance, seconds;
         double duration = 0;
         Point position = null;
 
         // fly to each waypoint
         for (Point point : flightPlan) {
-            distance = point.distanceFromPoint(position);
+            distance = distances.getDistance(position, point);
             seconds = distance / cruisingSpeed;
             duration += seconds + deliveryTime;
             position = point;
@@ -172,7 +277,7 @@ public class Drone implements XmlSerializable {
 
         // fly back to origin
         if (position != null) {
-            distance = position.distanceFromPoint(null);
+            distance = distances.getDistance(position, null);
             seconds = distance / cruisingSpeed;
             duration += seconds;
         }
@@ -214,10 +319,20 @@ public class Drone implements XmlSerializable {
             }
         }
 
+        return isEstimatedSafeFlightTime(maxDistance, size);
+    }
+
+    /**
+     * Over estimates if the flight time to a number of unique stops won't exceed the max.
+     * @param maxDistance  longest distance in feet between any two stops or from a stop to the origin
+     * @param stops        number of unique stops
+     * @return             {@code true} if safe
+     */
+    public boolean isEstimatedSafeFlightTime(double maxDistance, int stops) {
         // estimate flight time based on longest distance traveled
-        double totalDistance = maxDistance * (size + 2);
+        double totalDistance = maxDistance * (stops + 2);
         double seconds = totalDistance / cruisingSpeed;
-        seconds += size * deliveryTime;
+        seconds += stops * deliveryTime;
         return seconds <= flightTime * .95;
     }
 
@@ -244,6 +359,32 @@ public class Drone implements XmlSerializable {
      * @return        ordered route containing unique points
      */
     public Route ordersToRoute(List<Order> orders) throws IllegalArgumentException {
+        return ordersToRoute(orders, new SplittableRandom());
+    }
+
+    /**
+     * Returns the route for a set of orders planned with the given random number generator.
+     * @param orders  orders to use
+     * @param random  random number generator used to plan the route
+     * @return        ordered route containing unique points
+     */
+    public Route ordersToRoute(List<Order> orders, SplittableRandom random) throws IllegalArgumentException {
+        if(orders == null)
+            throw new IllegalArgumentException("Order list cannot be null.");
+
+        return ordersToRoute(orders, plannerOf(orders), random);
+    }
+
+    /**
+     * Returns the route for a set of orders planned with the given
+     * planner and random number generator.
+     * @param orders   orders to use
+     * @param planner  planner knowing the destinations of the orders
+     * @param random   random number generator used to plan the route
+     * @return         ordered route containing unique points
+     */
+    public Route ordersToRoute(List<Order> orders, RoutePlanner planner, SplittableRandom random)
+            throws IllegalArgumentException {
         if(orders == null)
             throw new IllegalArgumentException("Order list cannot be null.");
 
@@ -253,7 +394,16 @@ public class Drone implements XmlSerializable {
             if (!waypoints.contains(waypoint))
                 waypoints.add(waypoint);
         }
-        return new Route(waypoints);
+        return planner.plan(waypoints, random);
+    }
+
+    /**
+     * Creates a planner with the default settings for the destinations of a set of orders.
+     */
+    private static RoutePlanner plannerOf(List<Order> orders) {
+        List<Point> destinations = new ArrayList<>(orders.size());
+        for (Order order : orders) destinations.add(order.getDestination());
+        return new RoutePlanner(new DistanceMatrix(destinations));
     }
 
     /**
@@ -0,0 +1,112 @@
+package com.dromedarydrones.mainapp;
+
+/**
+ * Utilization of a single drone of the fleet: how many flights it made,
+ * how many orders it delivered and how much of the elapsed time it spent
+ * reloading and flying. Utilizations of the same drone in separate trials
+ * can be merged into an overall one.
+ */
+public class DroneUtilization {
+
+    private long flights;       // number of flights made
+    private long deliveries;    // number of orders delivered
+    private double busyTime;    // seconds spent reloading and flying
+    private double elapsedTime; // seconds from the start of the trial until the last drone landed
+
+    /**
+     * Creates an empty utilization.
+     */
+    public DroneUtilization() {
+        flights = 0;
+        deliveries = 0;
+        busyTime = 0;
+        elapsedTime = 0;
+    }
+
+    /**
+     * Copy constructor that creates a copy of an existing utilization.
+     * @param other  the other instance to be cloned
+     */
+    public DroneUtilization(DroneUtilization other) {
+        this.flights = other.flights;
+        this.deliveries = other.deliveries;
+        this.busyTime = other.busyTime;
+        this.elapsedTime = other.elapsedTime;
+    }
+
+    /**
+     * Adds a flight of the drone.
+     * @param orders    number of orders delivered on the flight
+     * @param duration  seconds spent reloading and flying
+     */
+    public void addFlight(int orders, double duration) {
+        flights++;
+        deliveries += orders;
+        busyTime += duration;
+    }
+
+    /**
+     * Adds to the time the drone was part of the simulation.
+     * @param seconds  elapsed seconds
+     */
+    public void addElapsedTime(double seconds) {
+        elapsedTime += seconds;
+    }
+
+    /**
+     * Adds the flights and times of another utilization to this one.
+     * @param other  utilization to merge into this one
+     */
+    public void merge(DroneUtilization other) throws IllegalArgumentException {
+        if (other == null)
+            throw new IllegalArgumentException("Utilization cannot be null.");
+
+        flights += other.flights;
+        deliveries += other.deliveries;
+        busyTime += other.busyTime;
+        elapsedTime += other.elapsedTime;
+    }
+
+    /**
+     * Returns the number of flights made.
+     */
+    public long getFlights() {
+        return flights;
+    }
+
+    /**
+     * Returns the number of orders delivered.
+     */
+    public long getDeliveries() {
+        return deliveries;
+    }
+
+    /**
+     * Returns the seconds spent reloading and flying.
+     */
+    public double getBusyTime() {
+        return busyTime;
+    }
+
+    /**
+     * Returns the seconds the drone was part of the simulation.
+     */
+    public double getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * Returns the fraction of the elapsed time spent reloading and flying.
+     * <br>
+     * A return value of 0.15 represents 15%
+     */
+    public double getUtilization() {
+        return elapsedTime > 0 ? busyTime / elapsedTime : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DroneUtilization{flights=%d, deliveries=%d, busy=%.2f, elapsed=%.2f}",
+                flights, deliveries, busyTime, elapsedTime);
+    }
+}
@@ -0,0 +1,36 @@
+package com.dromedarydrones.mainapp;
+
+/**
+ * Packing strategy delivering the orders in the order they were
+ * placed, loading the drone until the next order would no longer fit.
+ * @author  Izzy Patnode and Christian Burns
+ */
+public class FifoStrategy implements PackingStrategy {
+
+    private final OrderList waitingOrders = new OrderList();   // orders placed but not yet loaded
+
+    @Override
+    public String getName() {
+        return PackingStrategies.FIFO;
+    }
+
+    @Override
+    public void orderArrived(int order) {
+        waitingOrders.add(order);
+    }
+
+    @Override
+    public void loadPayload(OrderStore orders, PayloadTracker payload) {
+        // load up drone with meals ordered in the past until the next
+        // would exceed payload capacity or max flight time
+        int loaded = 0;
+        while (loaded < waitingOrders.size() && payload.canAdd(orders, waitingOrders.get(loaded)))
+            payload.add(orders, waitingOrders.get(loaded++));
+        waitingOrders.removeRange(0, loaded);
+    }
+
+    @Override
+    public boolean hasWaitingOrders() {
+        return !waitingOrders.isEmpty();
+    }
+}
@@ -0,0 +1,162 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.xml.XmlSerializable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Fleet of drones delivering the orders of a simulation. Drones may have
+ * different settings. A fleet always contains at least one drone, the first
+ * of which is the drone edited as the simulation's drone settings.
+ * <p>
+ * In XML a fleet lists its drones as {@code drone} elements, where an optional
+ * {@code count} attribute repeats a drone so large fleets stay readable.
+ */
+public class Fleet implements Iterable<Drone>, XmlSerializable {
+
+    private final ArrayList<Drone> drones;  // drones in the order they are dispatched on ties
+
+    /**
+     * Creates a fleet of a single drone with the default settings.
+     */
+    public Fleet() {
+        drones = new ArrayList<>();
+        drones.add(new Drone());
+    }
+
+    /**
+     * Creates a fleet of a single drone.
+     * @param drone  the only drone of the fleet
+     */
+    public Fleet(Drone drone) throws IllegalArgumentException {
+        if (drone == null)
+            throw new IllegalArgumentException("Drone cannot be null.");
+
+        drones = new ArrayList<>();
+        drones.add(drone);
+    }
+
+    /**
+     * Copy constructor that creates a deep copy of an existing fleet.
+     * @param other  the other instance to be cloned
+     */
+    public Fleet(Fleet other) {
+        drones = new ArrayList<>();
+        for (Drone drone : other.drones) drones.add(new Drone(drone));
+    }
+
+    /**
+     * Initialize a fleet from an XML object.
+     * @param root  xml element containing the drones of the fleet
+     */
+    public Fleet(Element root) throws IllegalArgumentException {
+        drones = new ArrayList<>();
+        NodeList children = root.getElementsByTagName("drone");
+        for (int index = 0; index < children.getLength(); index++) {
+            Element child = (Element) children.item(index);
+            int count = child.hasAttribute("count") ? Integer.parseInt(child.getAttribute("count")) : 1;
+            if (count < 1)
+                throw new IllegalArgumentException("Drone count must be at least 1.");
+
+            Drone drone = new Drone(child);
+            drones.add(drone);
+            for (int copy = 1; copy < count; copy++) drones.add(new Drone(drone));
+        }
+
+        if (drones.isEmpty())
+            throw new IllegalArgumentException("A fleet must contain at least one drone.");
+    }
+
+    /**
+     * Adds a drone to the fleet.
+     * @param drone  drone to be added
+     */
+    public void addDrone(Drone drone) throws IllegalArgumentException {
+        if (drone == null)
+            throw new IllegalArgumentException("Drone cannot be null.");
+
+        drones.add(drone);
+    }
+
+    /**
+     * Removes a drone from the fleet.
+     * @param drone  drone to be removed
+     * @return  {@code true} if the drone was removed.
+     *          {@code false} if the drone is not part of the fleet.
+     * @throws IllegalStateException  if it is the last drone of the fleet
+     */
+    public boolean removeDrone(Drone drone) throws IllegalStateException {
+        if (drones.size() == 1 && drones.get(0) == drone)
+            throw new IllegalStateException("A fleet must contain at least one drone.");
+
+        return drones.remove(drone);
+    }
+
+    /**
+     * Returns the drone at the specified position in the fleet.
+     * @param index  position of the drone
+     */
+    public Drone getDrone(int index) {
+        return drones.get(index);
+    }
+
+    /**
+     * Returns an unmodifiable view of the drones of the fleet.
+     */
+    public List<Drone> getDrones() {
+        return Collections.unmodifiableList(drones);
+    }
+
+    /**
+     * Returns the number of drones in the fleet.
+     */
+    public int size() {
+        return drones.size();
+    }
+
+    @Override
+    public Iterator<Drone> iterator() {
+        return getDrones().iterator();
+    }
+
+    /**
+     * Builds the XML element representing this fleet. Consecutive
+     * drones with the same settings are written as a single element.
+     * @param document  XML document
+     * @return  XML element
+     */
+    @Override
+    public Element toXml(Document document) {
+        Element root = document.createElement("fleet");
+        int index = 0;
+        while (index < drones.size()) {
+            Drone drone = drones.get(index);
+            int count = 1;
+            while (index + count < drones.size() && sameSettings(drone, drones.get(index + count)))
+                count++;
+
+            Element element = drone.toXml(document);
+            if (count > 1) element.setAttribute("count", String.valueOf(count));
+            root.appendChild(element);
+            index += count;
+        }
+        return root;
+    }
+
+    /**
+     * Determines if two drones have identical settings.
+     */
+    private static boolean sameSettings(Drone first, Drone second) {
+        return first.getMaxPayloadWeight() == second.getMaxPayloadWeight()
+                && first.getCruisingSpeed() == second.getCruisingSpeed()
+                && first.getFlightTime() == second.getFlightTime()
+                && first.getTurnAroundTime() == second.getTurnAroundTime()
+                && first.getDeliveryTime() == second.getDeliveryTime();
+    }
+}
@@ -0,0 +1,61 @@
+package com.dromedarydrones.mainapp;
+
+/**
+ * Packing strategy loading the drone greedily by weight, giving
+ * orders skipped on earlier flights the first chance to be loaded.
+ * @author  Brendan Ortmann and Christian Burns
+ */
+public class KnapsackStrategy implements PackingStrategy {
+
+    private final OrderList availableOrders = new OrderList();    // orders placed since the last loading
+    private final OrderList skippedOrders = new OrderList();      // orders that did not fit on earlier flights
+
+    @Override
+    public String getName() {
+        return PackingStrategies.KNAPSACK;
+    }
+
+    @Override
+    public void orderArrived(int order) {
+        availableOrders.add(order);
+    }
+
+    @Override
+    public void loadPayload(OrderStore orders, PayloadTracker payload) {
+        // sort available orders by weight in increasing order
+        availableOrders.sortByWeight(orders, false);
+
+        // sort skipped orders by order time in increasing order
+        skippedOrders.sortByTime(orders);
+
+        // load up drone with orders we skipped last time, keeping the rest in order
+        int kept = 0;
+        for (int index = 0; index < skippedOrders.size(); index++) {
+            int order = skippedOrders.get(index);
+            if (payload.canAdd(orders, order)) {
+                payload.add(orders, order);
+            } else {
+                skippedOrders.set(kept++, order);
+            }
+        }
+        skippedOrders.removeRange(kept, skippedOrders.size());
+
+        // load up drone with newly available orders
+        for (int index = 0; index < availableOrders.size(); index++) {
+            int order = availableOrders.get(index);
+            if (payload.canAdd(orders, order)) {
+                payload.add(orders, order);
+            } else {
+                skippedOrders.add(order);
+            }
+        }
+
+        // all available orders have been processed
+        availableOrders.clear();
+    }
+
+    @Override
+    public boolean hasWaitingOrders() {
+        return !availableOrders.isEmpty() || !skippedOrders.isEmpty();
+    }
+}
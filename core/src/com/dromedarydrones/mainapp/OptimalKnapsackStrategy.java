@@ -0,0 +1,217 @@
+package com.dromedarydrones.mainapp;
+
+/**
+ * Packing strategy solving the 0/1 knapsack problem for every flight, loading
+ * the drone with the heaviest combination of waiting orders that fits within
+ * its payload capacity and estimated flight time.
+ * <p>
+ * The order that has been waiting the longest is always loaded first so no
+ * order waits forever, and only the oldest waiting orders are candidates for
+ * the remaining capacity. Small candidate sets are searched exactly with branch
+ * and bound. Larger ones are solved with dynamic programming over the weights
+ * rounded up to {@link #WEIGHT_RESOLUTION}, after which orders that would
+ * exceed the flight time are left out. Each loading is limited to a work
+ * budget of search nodes or table cells, after which the best payload found so
+ * far is loaded. The budget does not depend on the clock, so seeded runs load
+ * the same payloads no matter how fast or how many threads they run on.
+ */
+public class OptimalKnapsackStrategy implements PackingStrategy {
+
+    /** default number of search nodes or table cells allowed for loading a single drone */
+    public static final long DEFAULT_WORK_BUDGET = 100_000;
+    /** number of oldest waiting orders considered for a single flight */
+    public static final int MAX_CANDIDATES = 64;
+    /** largest number of candidates searched exactly with branch and bound */
+    public static final int BRANCH_AND_BOUND_LIMIT = 24;
+    /** ounces each weight is rounded up to by the dynamic programming */
+    public static final double WEIGHT_RESOLUTION = 0.1;
+
+    private final OrderList waitingOrders = new OrderList();   // orders not yet loaded in the order they were placed
+    private final OrderList candidates = new OrderList();      // orders competing for the flight being loaded
+    private final long workBudget;  // search nodes or table cells allowed for loading a single drone
+
+    /**
+     * Creates the strategy with the default work budget.
+     */
+    public OptimalKnapsackStrategy() {
+        this(DEFAULT_WORK_BUDGET);
+    }
+
+    /**
+     * Creates the strategy with a custom work budget.
+     * @param workBudget  search nodes or table cells allowed for loading a single drone
+     */
+    public OptimalKnapsackStrategy(long workBudget) throws IllegalArgumentException {
+        if (workBudget <= 0)
+            throw new IllegalArgumentException("Work budget must be positive.");
+
+        this.workBudget = workBudget;
+    }
+
+    @Override
+    public String getName() {
+        return PackingStrategies.OPTIMAL_KNAPSACK;
+    }
+
+    @Override
+    public void orderArrived(int order) {
+        waitingOrders.add(order);
+    }
+
+    @Override
+    public void loadPayload(OrderStore orders, PayloadTracker payload) {
+        if (waitingOrders.isEmpty()) return;
+
+        // the longest waiting order always flies if the drone can carry it
+        int oldest = waitingOrders.get(0);
+        if (payload.canAdd(orders, oldest))
+            payload.add(orders, oldest);
+        double capacity = payload.getDrone().getMaxPayloadWeight() - payload.getWeight();
+
+        // the oldest of the other orders compete for the remaining capacity
+        candidates.clear();
+        int examined = 1;
+        for (; examined < waitingOrders.size() && candidates.size() < MAX_CANDIDATES; examined++) {
+            int order = waitingOrders.get(examined);
+            if (orders.getWeight(order) <= capacity) candidates.add(order);
+        }
+        candidates.sortByWeight(orders, true);
+
+        OrderList selected = candidates.size() <= BRANCH_AND_BOUND_LIMIT
+                ? new BranchAndBound(orders, payload, candidates, capacity, workBudget).solve()
+                : solveByWeight(orders, candidates, capacity, workBudget);
+
+        // load the selection, then fill any capacity left by orders that did not fit
+        loadSafely(orders, payload, selected);
+        loadSafely(orders, payload, candidates);
+
+        // every loaded order was among those examined
+        int kept = 0;
+        for (int index = 0; index < examined; index++) {
+            int order = waitingOrders.get(index);
+            if (!payload.contains(order)) waitingOrders.set(kept++, order);
+        }
+        waitingOrders.removeRange(kept, examined);
+    }
+
+    @Override
+    public boolean hasWaitingOrders() {
+        return !waitingOrders.isEmpty();
+    }
+
+    /**
+     * Adds the orders to the payload, heaviest first, as long as they fit.
+     */
+    private static void loadSafely(OrderStore orders, PayloadTracker payload, OrderList selected) {
+        for (int index = 0; index < selected.size(); index++) {
+            int order = selected.get(index);
+            if (payload.contains(order) || !payload.canAdd(orders, order)) continue;
+
+            payload.add(orders, order);
+        }
+    }
+
+    /**
+     * Selects the heaviest combination of orders within the capacity with
+     * dynamic programming over the weights rounded up to the resolution.
+     * Returns the orders sorted heaviest first, or all candidates to be
+     * loaded greedily if the table has more cells than the work budget.
+     */
+    static OrderList solveByWeight(OrderStore orders, OrderList candidates, double capacity, long workBudget) {
+        int units = (int) Math.floor(capacity / WEIGHT_RESOLUTION + 1e-9);
+        int count = candidates.size();
+        if ((long) count * (units + 1) > workBudget) return candidates;
+
+        boolean[] reachable = new boolean[units + 1];
+        boolean[][] taken = new boolean[count][units + 1];  // whether an order was added to reach a weight
+        reachable[0] = true;
+
+        for (int index = 0; index < count; index++) {
+            int weight = (int) Math.ceil(orders.getWeight(candidates.get(index)) / WEIGHT_RESOLUTION - 1e-9);
+            for (int total = units; total >= weight; total--) {
+                if (!reachable[total] && reachable[total - weight]) {
+                    reachable[total] = true;
+                    taken[index][total] = true;
+                }
+            }
+        }
+
+        // walk back from the heaviest reachable weight
+        int total = units;
+        while (!reachable[total]) total--;
+        int[] picked = new int[count];
+        int pickedCount = 0;
+        for (int index = count - 1; index >= 0 && total > 0; index--) {
+            if (taken[index][total]) {
+                int order = candidates.get(index);
+                picked[pickedCount++] = order;
+                total -= (int) Math.ceil(orders.getWeight(order) / WEIGHT_RESOLUTION - 1e-9);
+            }
+        }
+        OrderList selected = new OrderList();
+        while (pickedCount > 0) selected.add(picked[--pickedCount]);
+        return selected;
+    }
+
+    /**
+     * Depth first search over the candidates sorted heaviest first, pruning
+     * payloads that exceed the flight time and branches that cannot become
+     * heavier than the best payload found so far.
+     */
+    private static final class BranchAndBound {
+        private final OrderStore orders;        // store the candidates are kept in
+        private final PayloadTracker payload;   // payload on the branch being searched
+        private final int base;                 // number of orders loaded before the search
+        private final OrderList candidates;     // orders to choose from, heaviest first
+        private final double[] remaining;       // weight of the candidates from each index on
+        private final double capacity;          // weight the candidates may add to the payload
+        private final long workBudget;          // nodes searched before the search gives up
+        private final OrderList best = new OrderList();
+        private double bestWeight = 0;
+        private long nodes = 0;
+
+        private BranchAndBound(OrderStore orders, PayloadTracker payload, OrderList candidates,
+                               double capacity, long workBudget) {
+            this.orders = orders;
+            this.payload = payload;
+            this.base = payload.size();
+            this.candidates = candidates;
+            this.capacity = capacity;
+            this.workBudget = workBudget;
+
+            remaining = new double[candidates.size() + 1];
+            for (int index = candidates.size() - 1; index >= 0; index--)
+                remaining[index] = remaining[index + 1] + orders.getWeight(candidates.get(index));
+        }
+
+        private OrderList solve() {
+            search(0, 0);
+            return best;
+        }
+
+        /**
+         * Returns {@code false} once the work budget has run out.
+         */
+        private boolean search(int index, double weight) {
+            if (weight > bestWeight) {
+                bestWeight = weight;
+                best.clear();
+                for (int added = base; added < payload.size(); added++)
+                    best.add(payload.getOrder(added));
+            }
+            if (index == candidates.size() || weight + remaining[index] <= bestWeight || bestWeight >= capacity)
+                return true;
+            if (++nodes > workBudget)
+                return false;
+
+            int order = candidates.get(index);
+            if (payload.canAdd(orders, order)) {
+                payload.add(orders, order);
+                boolean finished = search(index + 1, weight + orders.getWeight(order));
+                payload.removeLast();
+                if (!finished) return false;
+            }
+            return search(index + 1, weight);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.dromedarydrones.mainapp;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of positions of orders in an {@link OrderStore}, which packing
+ * strategies keep their waiting orders in. Sorting packs each order into a single
+ * long of its key and its position in the list, so sorts are stable, and the list
+ * allocates nothing once it has grown to the most orders it holds.
+ */
+public final class OrderList {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] orders = new int[INITIAL_CAPACITY];   // positions of the orders in the store
+    private int[] sorted = new int[0];                  // scratch space the orders are sorted into
+    private long[] keys = new long[0];                  // scratch space for sorting
+    private int size;                                   // number of orders in the list
+
+    /**
+     * Adds an order to the end of the list.
+     * @param order  position of the order in the store
+     */
+    public void add(int order) {
+        if (size == orders.length)
+            orders = Arrays.copyOf(orders, size * 2);
+        orders[size++] = order;
+    }
+
+    /**
+     * Returns the order at an index of the list.
+     * @param index  index in the list
+     * @return  position of the order in the store
+     */
+    public int get(int index) {
+        return orders[index];
+    }
+
+    /**
+     * Replaces the order at an index of the list.
+     * @param index  index in the list
+     * @param order  position of the order in the store
+     */
+    public void set(int index, int order) {
+        orders[index] = order;
+    }
+
+    /**
+     * Removes the orders from an index up to but not including another,
+     * moving the orders after them forward.
+     * @param from  index of the first order removed
+     * @param to    index after the last order removed
+     */
+    public void removeRange(int from, int to) {
+        System.arraycopy(orders, to, orders, from, size - to);
+        size -= to - from;
+    }
+
+    /**
+     * Returns the number of orders in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if the list holds no orders.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every order from the list.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sorts the orders by the time they were placed, keeping orders placed in the same second in order.
+     * @param store  store the orders are kept in
+     */
+    public void sortByTime(OrderStore store) {
+        ensureKeys();
+        for (int index = 0; index < size; index++)
+            keys[index] = (long) store.getTimeOrdered(orders[index]) << 32 | index;
+        applyKeys();
+    }
+
+    /**
+     * Sorts the orders by weight, keeping orders of the same weight in order.
+     * @param store          store the orders are kept in
+     * @param heaviestFirst  whether the heaviest orders come first rather than the lightest
+     */
+    public void sortByWeight(OrderStore store, boolean heaviestFirst) {
+        ensureKeys();
+        for (int index = 0; index < size; index++) {
+            int rank = store.getWeightRank(orders[index]);
+            keys[index] = (long) (heaviestFirst ? -rank : rank) << 32 | index;
+        }
+        applyKeys();
+    }
+
+    private void ensureKeys() {
+        if (keys.length < size) {
+            keys = new long[orders.length];
+            sorted = new int[orders.length];
+        }
+    }
+
+    /**
+     * Reorders the list by the sorted keys, whose low halves are indices into the list.
+     */
+    private void applyKeys() {
+        Arrays.sort(keys, 0, size);
+        for (int index = 0; index < size; index++)
+            sorted[index] = orders[(int) keys[index]];
+        System.arraycopy(sorted, 0, orders, 0, size);
+    }
+}
@@ -0,0 +1,212 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.food.Meal;
+import com.dromedarydrones.food.Order;
+import com.dromedarydrones.location.DistanceMatrix;
+import com.dromedarydrones.location.Point;
+import com.dromedarydrones.sampling.AliasSampler;
+
+import java.util.Arrays;
+
+/**
+ * Orders of a trial kept in parallel primitive arrays, which the packing
+ * strategies and the {@link DeliverySimulation} refer to by their position.
+ * <p>
+ * An order is its time in whole seconds, the indices of its meal and destination
+ * in the samplers of a {@link SimulationSnapshot}, the weight of its meal, the id
+ * of its destination in the {@link DistanceMatrix} and the time it was delivered
+ * by each packing strategy of the trial, so generating, sorting and delivering
+ * the orders of a shift allocates nothing per order. {@link Order} objects are
+ * only created for results that keep the delivered orders.
+ */
+public final class OrderStore {
+
+    private final AliasSampler<Meal> mealSampler;           // meals the meal indices refer to
+    private final AliasSampler<Point> destinationSampler;   // destinations the destination indices refer to
+    private final double[] mealWeights;     // weight of each meal of the sampler
+    private final int[] mealRanks;          // position of each meal's weight among the distinct weights
+    private final int[] pointIds;           // id of each destination of the sampler in the distance matrix
+
+    private final int[] timesOrdered;       // seconds since the start of the shift each order was placed
+    private final int[] meals;              // index of each order's meal in the meal sampler
+    private final int[] destinations;       // index of each order's destination in the destination sampler
+    private final double[] weights;         // weight of each order's meal
+    private final int[] destinationIds;     // id of each order's destination in the distance matrix
+    private final double[][] timesDelivered;    // time each strategy delivered each order or -1
+    private int size;                       // number of orders added
+
+    /**
+     * Creates an empty store for the orders of a trial of a simulation.
+     * @param snapshot  snapshot of the simulation the trial is part of
+     * @param capacity  most orders the store can hold
+     */
+    OrderStore(SimulationSnapshot snapshot, int capacity) throws IllegalArgumentException {
+        this(capacity, snapshot.getStrategyNames().size(), snapshot.getMealSampler(),
+                snapshot.getDestinationSampler(), snapshot.getRoutePlanner().getDistanceMatrix());
+    }
+
+    /**
+     * Creates an empty store.
+     * @param capacity            most orders the store can hold
+     * @param strategyCount       number of packing strategies delivering the orders
+     * @param mealSampler         sampler the meal indices refer to
+     * @param destinationSampler  sampler the destination indices refer to
+     * @param distances           distance matrix containing every destination of the sampler
+     */
+    OrderStore(int capacity, int strategyCount, AliasSampler<Meal> mealSampler,
+               AliasSampler<Point> destinationSampler, DistanceMatrix distances) throws IllegalArgumentException {
+        if (capacity < 0 || strategyCount < 0)
+            throw new IllegalArgumentException("Capacity and strategy count cannot be negative.");
+
+        this.mealSampler = mealSampler;
+        this.destinationSampler = destinationSampler;
+        mealWeights = new double[mealSampler.size()];
+        for (int meal = 0; meal < mealWeights.length; meal++)
+            mealWeights[meal] = mealSampler.get(meal).getTotalWeight();
+        double[] distinct = Arrays.stream(mealWeights).sorted().distinct().toArray();
+        mealRanks = new int[mealWeights.length];
+        for (int meal = 0; meal < mealRanks.length; meal++)
+            mealRanks[meal] = Arrays.binarySearch(distinct, mealWeights[meal]);
+        pointIds = new int[destinationSampler.size()];
+        for (int destination = 0; destination < pointIds.length; destination++)
+            pointIds[destination] = distances.getId(destinationSampler.get(destination));
+
+        timesOrdered = new int[capacity];
+        meals = new int[capacity];
+        destinations = new int[capacity];
+        weights = new double[capacity];
+        destinationIds = new int[capacity];
+        timesDelivered = new double[strategyCount][capacity];
+        for (double[] times : timesDelivered) Arrays.fill(times, -1);
+    }
+
+    /**
+     * Adds an order.
+     * @param timeOrdered  non-negative second the order was placed
+     * @param meal         index of the meal ordered
+     * @param destination  index of the destination
+     */
+    void add(int timeOrdered, int meal, int destination) throws IllegalArgumentException {
+        if (size == timesOrdered.length)
+            throw new IllegalArgumentException("Order store is full.");
+        if (timeOrdered < 0)
+            throw new IllegalArgumentException("Order time cannot be negative.");
+
+        timesOrdered[size] = timeOrdered;
+        meals[size] = meal;
+        destinations[size] = destination;
+        weights[size] = mealWeights[meal];
+        destinationIds[size] = pointIds[destination];
+        size++;
+    }
+
+    /**
+     * Sorts the orders by the time they were placed, keeping orders placed
+     * in the same second in the order they were added, like a stable sort.
+     * Each order is packed into a single long of its time and position.
+     */
+    void sortByTime() {
+        long[] keys = new long[size];
+        for (int index = 0; index < size; index++)
+            keys[index] = (long) timesOrdered[index] << 32 | index;
+        Arrays.sort(keys);
+
+        int[] sortedMeals = new int[size], sortedDestinations = new int[size];
+        for (int index = 0; index < size; index++) {
+            int from = (int) keys[index];
+            timesOrdered[index] = (int) (keys[index] >>> 32);
+            sortedMeals[index] = meals[from];
+            sortedDestinations[index] = destinations[from];
+        }
+        for (int index = 0; index < size; index++) {
+            meals[index] = sortedMeals[index];
+            destinations[index] = sortedDestinations[index];
+            weights[index] = mealWeights[meals[index]];
+            destinationIds[index] = pointIds[destinations[index]];
+        }
+    }
+
+    /**
+     * Returns the number of orders.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the second an order was placed.
+     * @param order  position of the order
+     */
+    public int getTimeOrdered(int order) {
+        return timesOrdered[order];
+    }
+
+    /**
+     * Returns the weight of an order in ounces.
+     * @param order  position of the order
+     */
+    public double getWeight(int order) {
+        return weights[order];
+    }
+
+    /**
+     * Returns the id of an order's destination in the distance matrix.
+     * @param order  position of the order
+     */
+    public int getDestinationId(int order) {
+        return destinationIds[order];
+    }
+
+    /**
+     * Returns the time a packing strategy delivered an order, or -1 if it has not yet.
+     * @param strategy  index of the packing strategy in the trial
+     * @param order     position of the order
+     */
+    public double getTimeDelivered(int strategy, int order) {
+        return timesDelivered[strategy][order];
+    }
+
+    /**
+     * Sets the time a packing strategy delivered an order.
+     * @param strategy  index of the packing strategy in the trial
+     * @param order     position of the order
+     * @param time      time in seconds relative to the start of the shift
+     */
+    void setTimeDelivered(int strategy, int order, double time) throws IllegalArgumentException {
+        if (time < 0)
+            throw new IllegalArgumentException("Delivery time cannot be negative.");
+
+        timesDelivered[strategy][order] = time;
+    }
+
+    /**
+     * Returns the time an order waited to be delivered by a packing strategy.
+     * @param strategy  index of the packing strategy in the trial
+     * @param order     position of the order
+     */
+    public double getWaitTime(int strategy, int order) {
+        return timesDelivered[strategy][order] - timesOrdered[order];
+    }
+
+    /**
+     * Returns the position of an order's weight among the distinct weights of the
+     * meals, so sorting by it sorts by weight without comparing doubles.
+     * @param order  position of the order
+     */
+    int getWeightRank(int order) {
+        return mealRanks[meals[order]];
+    }
+
+    /**
+     * Creates an order as delivered by a packing strategy.
+     * @param strategy  index of the packing strategy in the trial
+     * @param order     position of the order
+     */
+    Order toOrder(int strategy, int order) {
+        Order created = new Order(mealSampler.get(meals[order]), timesOrdered[order],
+                destinationSampler.get(destinations[order]));
+        if (timesDelivered[strategy][order] >= 0)
+            created.setTimeDelivered(timesDelivered[strategy][order]);
+        return created;
+    }
+}
@@ -0,0 +1,86 @@
+package com.dromedarydrones.mainapp;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the packing strategies simulations can evaluate, keyed by name.
+ * The first-in-first-out, greedy knapsack and optimal knapsack strategies are
+ * always registered and further strategies can be added with {@link #register(String, Supplier)}.
+ */
+public final class PackingStrategies {
+
+    /** name of the first-in-first-out strategy */
+    public static final String FIFO = "fifo";
+    /** name of the greedy knapsack strategy */
+    public static final String KNAPSACK = "knapsack";
+    /** name of the optimal knapsack strategy */
+    public static final String OPTIMAL_KNAPSACK = "optimal";
+
+    private static final Map<String, Supplier<PackingStrategy>> FACTORIES = new LinkedHashMap<>();
+
+    static {
+        register(FIFO, FifoStrategy::new);
+        register(KNAPSACK, KnapsackStrategy::new);
+        register(OPTIMAL_KNAPSACK, OptimalKnapsackStrategy::new);
+    }
+
+    private PackingStrategies() {}
+
+    /**
+     * Registers a packing strategy.
+     * @param name     unique name of the strategy
+     * @param factory  creates a new instance of the strategy for each trial
+     * @throws IllegalArgumentException  if an argument is null or the name is already registered
+     */
+    public static synchronized void register(String name, Supplier<PackingStrategy> factory)
+            throws IllegalArgumentException {
+        if (name == null || factory == null)
+            throw new IllegalArgumentException("Name and factory cannot be null.");
+        if (FACTORIES.containsKey(name))
+            throw new IllegalArgumentException("Packing strategy \"" + name + "\" is already registered.");
+
+        FACTORIES.put(name, factory);
+    }
+
+    /**
+     * Returns {@code true} if a strategy is registered under the name.
+     * @param name  name of the strategy
+     */
+    public static synchronized boolean isRegistered(String name) {
+        return FACTORIES.containsKey(name);
+    }
+
+    /**
+     * Creates a new instance of a registered strategy.
+     * @param name  name of the strategy
+     * @throws IllegalArgumentException  if no strategy is registered under the name
+     */
+    public static PackingStrategy create(String name) throws IllegalArgumentException {
+        Supplier<PackingStrategy> factory;
+        synchronized (PackingStrategies.class) {
+            factory = FACTORIES.get(name);
+        }
+        if (factory == null)
+            throw new IllegalArgumentException("Unknown packing strategy \"" + name + "\".");
+
+        return factory.get();
+    }
+
+    /**
+     * Returns the names of every registered strategy in registration order.
+     */
+    public static synchronized List<String> getNames() {
+        return new ArrayList<>(FACTORIES.keySet());
+    }
+
+    /**
+     * Returns the names of the strategies a simulation evaluates unless configured otherwise.
+     */
+    public static List<String> getDefaultNames() {
+        return List.of(FIFO, KNAPSACK);
+    }
+}
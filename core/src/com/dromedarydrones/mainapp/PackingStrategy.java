@@ -0,0 +1,34 @@
+package com.dromedarydrones.mainapp;
+
+/**
+ * Packing algorithm deciding which of the waiting orders a drone carries on
+ * its next flight. An instance packs the orders of a single trial and keeps
+ * track of the orders waiting to be loaded, so a new instance is created for
+ * every trial through the {@link PackingStrategies registry}. Orders are
+ * referred to by their position in the trial's {@link OrderStore}.
+ */
+public interface PackingStrategy {
+
+    /**
+     * Returns the name the strategy is registered and its results are keyed by.
+     */
+    String getName();
+
+    /**
+     * Makes an order that has just been placed available for loading.
+     * @param order  position of the order placed
+     */
+    void orderArrived(int order);
+
+    /**
+     * Loads a drone with waiting orders, leaving the payload empty if nothing can be loaded.
+     * @param orders   store the orders are kept in
+     * @param payload  empty payload of the drone to be loaded
+     */
+    void loadPayload(OrderStore orders, PayloadTracker payload);
+
+    /**
+     * Returns {@code true} if orders are waiting that have not been loaded.
+     */
+    boolean hasWaitingOrders();
+}
@@ -0,0 +1,193 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.location.DistanceMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Incrementally tracks the payload being loaded onto a drone to answer whether
+ * another order still fits within its payload capacity and estimated flight time.
+ * Orders are referred to by their position in an {@link OrderStore}, and a tracker
+ * can be cleared and reused for every flight of a drone.
+ * <p>
+ * The unique destinations and the running maximum distance used by
+ * {@link Drone#isEstimatedSafeFlightTime(java.util.List)} are maintained as
+ * orders are added and distances are looked up in a {@link DistanceMatrix}, so
+ * checking an order takes time proportional to the number of unique stops and
+ * allocates nothing. Orders can be removed again in the reverse order they
+ * were added, which suits searching over payloads.
+ */
+public class PayloadTracker {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Drone drone;
+    private final DistanceMatrix distances;
+    private int[] orders;               // positions of the orders in the order they were added
+    private int[] stops;                // ids of the unique destinations in the order they were added
+    private double[] maxDistances;      // longest distance among the first i + 1 stops or from them to the origin
+    private boolean[] addedStop;        // whether each order added a new destination
+    private double[] cargoWeights;      // weight of the payload after each order was added
+    private int stopCount;              // number of unique destinations
+    private int orderCount;             // number of orders added
+
+    /**
+     * Creates an empty payload for a drone.
+     * @param drone      drone carrying the payload
+     * @param distances  distances between the destinations of the orders
+     */
+    public PayloadTracker(Drone drone, DistanceMatrix distances) throws IllegalArgumentException {
+        if (drone == null)
+            throw new IllegalArgumentException("Drone cannot be null.");
+        if (distances == null)
+            throw new IllegalArgumentException("Distance matrix cannot be null.");
+
+        this.drone = drone;
+        this.distances = distances;
+        orders = new int[INITIAL_CAPACITY];
+        stops = new int[INITIAL_CAPACITY];
+        maxDistances = new double[INITIAL_CAPACITY];
+        addedStop = new boolean[INITIAL_CAPACITY];
+        cargoWeights = new double[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Determines if an order can be added without exceeding
+     * the payload capacity or estimated flight time of the drone.
+     * @param store  store the order is kept in
+     * @param order  position of the order to be added
+     * @return  {@code true} if safe
+     */
+    public boolean canAdd(OrderStore store, int order) {
+        if (store.getWeight(order) + getWeight() > drone.getMaxPayloadWeight())
+            return false;
+
+        int destination = store.getDestinationId(order);
+        if (indexOf(destination) >= 0)
+            return drone.isEstimatedSafeFlightTime(getMaxDistance(), stopCount);
+        return drone.isEstimatedSafeFlightTime(maxDistanceWith(destination), stopCount + 1);
+    }
+
+    /**
+     * Adds an order to the payload. Its safety should be checked with {@link #canAdd(OrderStore, int)} first.
+     * @param store  store the order is kept in
+     * @param order  position of the order to be added
+     */
+    public void add(OrderStore store, int order) {
+        if (orderCount == cargoWeights.length) {
+            orders = Arrays.copyOf(orders, orderCount * 2);
+            addedStop = Arrays.copyOf(addedStop, orderCount * 2);
+            cargoWeights = Arrays.copyOf(cargoWeights, orderCount * 2);
+        }
+
+        int destination = store.getDestinationId(order);
+        boolean newStop = indexOf(destination) < 0;
+        if (newStop) {
+            if (stopCount == stops.length) {
+                stops = Arrays.copyOf(stops, stopCount * 2);
+                maxDistances = Arrays.copyOf(maxDistances, stopCount * 2);
+            }
+            maxDistances[stopCount] = maxDistanceWith(destination);
+            stops[stopCount++] = destination;
+        }
+
+        orders[orderCount] = order;
+        cargoWeights[orderCount] = getWeight() + store.getWeight(order);
+        addedStop[orderCount++] = newStop;
+    }
+
+    /**
+     * Removes the order that was added last.
+     * @throws IllegalStateException  if the payload is empty
+     */
+    public void removeLast() throws IllegalStateException {
+        if (orderCount == 0)
+            throw new IllegalStateException("Payload is empty.");
+
+        if (addedStop[--orderCount])
+            stopCount--;
+    }
+
+    /**
+     * Removes every order from the payload.
+     */
+    public void clear() {
+        stopCount = 0;
+        orderCount = 0;
+    }
+
+    /**
+     * Returns the number of orders in the payload.
+     */
+    public int size() {
+        return orderCount;
+    }
+
+    /**
+     * Returns an order of the payload.
+     * @param index  number of orders added before it
+     * @return  position of the order in its store
+     */
+    public int getOrder(int index) {
+        return orders[index];
+    }
+
+    /**
+     * Returns {@code true} if an order is part of the payload.
+     * @param order  position of the order in its store
+     */
+    public boolean contains(int order) {
+        for (int index = 0; index < orderCount; index++)
+            if (orders[index] == order) return true;
+        return false;
+    }
+
+    /**
+     * Returns the number of unique destinations of the payload.
+     */
+    public int getStopCount() {
+        return stopCount;
+    }
+
+    /**
+     * Returns the id of a destination of the payload in the distance matrix.
+     * @param index  number of unique destinations added before it
+     */
+    public int getStop(int index) {
+        return stops[index];
+    }
+
+    /**
+     * Returns the drone carrying the payload.
+     */
+    public Drone getDrone() {
+        return drone;
+    }
+
+    /**
+     * Returns the total weight of the payload in ounces.
+     */
+    public double getWeight() {
+        return orderCount > 0 ? cargoWeights[orderCount - 1] : 0;
+    }
+
+    private double getMaxDistance() {
+        return stopCount > 0 ? maxDistances[stopCount - 1] : 0;
+    }
+
+    /**
+     * Returns the longest distance once the destination is one of the stops.
+     */
+    private double maxDistanceWith(int destination) {
+        double maxDistance = Math.max(getMaxDistance(), distances.getDistance(destination, DistanceMatrix.ORIGIN));
+        for (int index = 0; index < stopCount; index++)
+            maxDistance = Math.max(maxDistance, distances.getDistance(destination, stops[index]));
+        return maxDistance;
+    }
+
+    private int indexOf(int destination) {
+        for (int index = 0; index < stopCount; index++)
+            if (stops[index] == destination) return index;
+        return -1;
+    }
+}
@@ -0,0 +1,634 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.food.FoodItem;
+import com.dromedarydrones.food.Meal;
+import com.dromedarydrones.location.DeliveryPoints;
+import com.dromedarydrones.location.RoutingSettings;
+import com.dromedarydrones.xml.XmlFactory;
+import com.dromedarydrones.xml.XmlSerializable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.*;
+
+/**
+ * A standalone configuration of a simulation containing
+ * meals, food items, delivery points, and the drone fleet.
+ * @author  Christian Burns and Izzy Patnode
+ */
+public class Simulation implements XmlSerializable, Callable<SimulationResults> {
+
+	private String simulationName;          // name of the simulation
+    private ArrayList<Integer> stochasticFlow;   //stochastic flow for simulation
+    private Fleet fleet;                    // drones delivering the orders
+    private ArrayList<FoodItem> foodItems;  // all known food items
+    private ArrayList<Meal> mealTypes;      // all known meals
+    private DeliveryPoints deliveryPoints;  // all known delivery points
+    private TrialSettings trialSettings;    // number of trials to run
+    private RoutingSettings routingSettings;    // how the routes of flights are planned
+    private List<String> packingStrategies; // names of the packing strategies to evaluate
+    private Long seed;                      // master seed of every run or null for a random one
+    private boolean retainingOrders;        // whether trial results keep every delivered order
+    private TrialScheduler trialScheduler;  // scheduler to run trials on or null for the shared one
+    private static final int NUMBER_OF_SHIFTS = 4;
+
+    // two-sided 95% critical values of Student's t distribution for 1 to 30 degrees of freedom
+    private static final double[] T_CRITICAL_95 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042 };
+    private static final double Z_CRITICAL_95 = 1.960;  // normal approximation beyond 30 degrees
+
+    /**
+     * Creates a new simulation configuration with the specified name.
+     * @author Christian Burns
+     * @param name  name of the new configuration
+     */
+    public Simulation(String name) throws IllegalArgumentException {
+        if(name == null)
+            throw new IllegalArgumentException("Name cannot be null.");
+
+        simulationName = name;
+        seed = null;
+        retainingOrders = false;
+        stochasticFlow = new ArrayList<>();
+        foodItems = new ArrayList<>();
+        mealTypes = new ArrayList<>();
+        deliveryPoints = new DeliveryPoints();
+        fleet = new Fleet();
+        trialSettings = new TrialSettings();
+        routingSettings = new RoutingSettings();
+        packingStrategies = PackingStrategies.getDefaultNames();
+    }
+
+    /**
+     * Load Simulation from an XML object.
+     * @author  Christian Burns
+     * @param root  element containing simulation data
+     */
+    public Simulation(Element root) {
+        simulationName = root.getAttribute("name");
+        seed = root.hasAttribute("seed") ? Long.parseLong(root.getAttribute("seed")) : null;
+        retainingOrders = false;
+        foodItems = new ArrayList<>();
+        mealTypes = new ArrayList<>();
+        stochasticFlow = new ArrayList<>();
+        int index; //loop variable
+
+        NodeList stochasticNodeList = root.getElementsByTagName("stochastic");
+        NodeList foodItemNodeList = root.getElementsByTagName("fooditems");
+        NodeList mealTypeNodeList = root.getElementsByTagName("mealtypes");
+        NodeList deliveryPointNodeList = root.getElementsByTagName("deliverypoints");
+        NodeList fleetNodeList = root.getElementsByTagName("fleet");
+        NodeList droneSettingsNodeList = root.getElementsByTagName("drone");
+        NodeList trialSettingsNodeList = root.getElementsByTagName("trials");
+        NodeList packingNodeList = root.getElementsByTagName("packing");
+        NodeList routingNodeList = root.getElementsByTagName("routing");
+
+        // load stochastic values
+        if (stochasticNodeList.getLength() > 0) {
+            Element stochasticRoot = (Element) stochasticNodeList.item(0);
+            int hourIndex = 0;
+            NodeList stochasticHourNodes = stochasticRoot.getElementsByTagName("hour" + hourIndex);
+            while (stochasticHourNodes.getLength() > 0) {
+                Element stochasticHour = (Element) stochasticHourNodes.item(0);
+                stochasticFlow.add(Integer.parseInt(stochasticHour.getAttribute("orders")));
+                stochasticHourNodes = stochasticRoot.getElementsByTagName(String.format("hour%d", ++hourIndex));
+            }
+        }
+        else {
+            System.err.println(String.format("simulation \"%s\" missing the \"stochastic\" element", simulationName));
+        }
+
+        // load the fleet, which older save files list as a single drone
+        if (fleetNodeList.getLength() > 0) {
+            fleet = new Fleet((Element) fleetNodeList.item(0));
+        }
+        else if (droneSettingsNodeList.getLength() > 0) {
+            Element droneSettingsRoot = (Element) droneSettingsNodeList.item(0);
+            fleet = new Fleet(new Drone(droneSettingsRoot));
+        }
+        else {
+            fleet = new Fleet();
+            System.err.println(String.format("simulation \"%s\" missing the \"drone\" element", simulationName));
+        }
+
+        // load trial settings, which older save files do not contain
+        if (trialSettingsNodeList.getLength() > 0)
+            trialSettings = new TrialSettings((Element) trialSettingsNodeList.item(0));
+        else
+            trialSettings = new TrialSettings();
+
+        // load routing settings, which older save files do not contain
+        if (routingNodeList.getLength() > 0)
+            routingSettings = new RoutingSettings((Element) routingNodeList.item(0));
+        else
+            routingSettings = new RoutingSettings();
+
+        // load the packing strategies, which older save files do not contain
+        packingStrategies = PackingStrategies.getDefaultNames();
+        if (packingNodeList.getLength() > 0) {
+            NodeList strategyNodes = ((Element) packingNodeList.item(0)).getElementsByTagName("strategy");
+            List<String> names = new ArrayList<>();
+            for (index = 0; index < strategyNodes.getLength(); index++)
+                names.add(((Element) strategyNodes.item(index)).getAttribute("name"));
+            setPackingStrategies(names);
+        }
+
+        // load food items
+        if (foodItemNodeList.getLength() > 0) {
+            Element foodItemRoot = (Element) foodItemNodeList.item(0);
+            NodeList foodChildren = foodItemRoot.getElementsByTagName("fooditem");
+            for (index = 0; index < foodChildren.getLength(); index++)
+                foodItems.add(new FoodItem((Element) foodChildren.item(index)));
+        }
+        else {
+            System.err.println(String.format("simulation \"%s\" missing the \"fooditems\" element", simulationName));
+        }
+
+        // load meal items
+        if (mealTypeNodeList.getLength() > 0) {
+            Element mealTypeRoot = (Element) mealTypeNodeList.item(0);
+            NodeList mealChildren = mealTypeRoot.getElementsByTagName("meal");
+            for (index = 0; index < mealChildren.getLength(); index++) {
+                Element mealChild = (Element) mealChildren.item(index);
+                String mealName = mealChild.getAttribute("name");
+                double mealProb = Double.parseDouble(mealChild.getAttribute("probability"));
+                ArrayList<FoodItem> mealFoodItems = new ArrayList<>();
+
+                // load foods within the meal
+                NodeList mealFoods = mealChild.getChildNodes();
+                for (int foodIndex = 0; foodIndex < mealFoods.getLength(); foodIndex++) {
+                    if (mealFoods.item(foodIndex).getNodeType() == Node.ELEMENT_NODE) {
+                        Element mealFood = (Element) mealFoods.item(foodIndex);
+                        String foodName = mealFood.getTagName();
+                        int amount = Integer.parseInt(mealFood.getTextContent());
+                        FoodItem food = foodItems.stream()
+                                .filter(fi -> XmlFactory.toXmlTag(fi.getName()).equals(foodName))
+                                .findFirst().orElse(null);
+                        if (food != null) {
+                            for (int counter = 0; counter < amount; counter++)
+                                mealFoodItems.add(food);
+                        }
+                    }
+                }
+                mealTypes.add(new Meal(mealFoodItems, mealName, mealProb));
+            }
+        }
+        else {
+            System.err.println(String.format("simulation \"%s\" missing the \"mealtypes\" element", simulationName));
+        }
+
+        // load delivery points
+        if (deliveryPointNodeList.getLength() > 0) {
+            Element deliveryPointRoot = (Element) deliveryPointNodeList.item(0);
+            deliveryPoints = new DeliveryPoints(deliveryPointRoot);
+        }
+        else {
+            deliveryPoints = new DeliveryPoints();
+            System.err.println(String.format("simulation \"%s\" missing the " +
+                    "\"deliverypoints\" element", simulationName));
+        }
+    }
+
+    /**
+     * Runs the simulation and returns the result.
+     * <p>
+     * Every trial draws from its own random number generator split off of a
+     * master generator in submission order, so a run with the same master
+     * seed reproduces the same results regardless of the number of threads.
+     * The trials share a {@link SimulationSnapshot} compiled when the run
+     * starts, so editing the simulation meanwhile does not affect the run.
+     * @author Christian Burns
+     * @throws IllegalStateException  if a trial fails, such as when orders
+     *                                exceed every drone's payload or flight time
+     */
+    @Override
+    public SimulationResults call() throws IllegalStateException {
+        ArrayList<TrialResults> results = new ArrayList<>();
+        TrialSettings settings = new TrialSettings(trialSettings);
+        long runSeed = seed != null ? seed : new SplittableRandom().nextLong();
+        SplittableRandom masterRandom = new SplittableRandom(runSeed);
+        SimulationSnapshot snapshot = new SimulationSnapshot(this);
+
+        try {
+            if (!settings.isAdaptive()) {
+                runTrials(settings.getTrialCount(), masterRandom, snapshot, results);
+            }
+            else {
+                // keep running batches until the results converge or the budget is used up
+                long deadline = System.nanoTime() + (long) (settings.getTimeBudget() * 1e9);
+                do {
+                    int batchSize = Math.min(settings.getBatchSize(), settings.getMaxTrials() - results.size());
+                    runTrials(batchSize, masterRandom, snapshot, results);
+                } while (results.size() < settings.getMaxTrials() && System.nanoTime() < deadline
+                        && !hasConverged(results, settings.getConfidenceWidth()));
+            }
+        }
+        catch (CancellationException | InterruptedException ignore) {
+        }
+
+        return new SimulationResults(results, runSeed, snapshot.getRoutePlanner().getCache());
+    }
+
+    /**
+     * Runs a number of trials on the scheduler and collects their results.
+     * @param count         number of trials to run
+     * @param masterRandom  generator each trial's generator is split from
+     * @param snapshot      snapshot of the simulation shared by every trial
+     * @param results       list the trial results are added to
+     * @throws InterruptedException   if interrupted while waiting on the trials
+     * @throws IllegalStateException  if a trial failed, with the trial's exception as its cause
+     */
+    private void runTrials(int count, SplittableRandom masterRandom, SimulationSnapshot snapshot,
+                           List<TrialResults> results)
+            throws InterruptedException, IllegalStateException {
+        List<Callable<TrialResults>> tasks = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            SplittableRandom trialRandom = masterRandom.split();
+            tasks.add(() -> new Trial(snapshot, trialRandom).run());
+        }
+
+        // collect all the results
+        List<Future<TrialResults>> futures = getTrialScheduler().invokeAll(tasks);
+        for (Future<TrialResults> result : futures) {
+            try {
+                results.add(result.get());
+            }
+            catch (ExecutionException exception) {
+                Throwable cause = exception.getCause();
+                throw new IllegalStateException("Trial failed: " + cause.getMessage(), cause);
+            }
+        }
+    }
+
+    /**
+     * Determines if the 95% confidence intervals of the average and worst
+     * wait times of every packing strategy are no wider than the given width.
+     * @param results  results of every trial run so far
+     * @param width    max width of the confidence intervals in seconds
+     * @return  {@code true} if every interval is narrow enough
+     */
+    private static boolean hasConverged(List<TrialResults> results, double width) {
+        int count = results.size();
+        if (count < 2) return false;
+
+        for (String name : results.get(0).getStrategyNames()) {
+            double[] averages = new double[count];
+            double[] worsts = new double[count];
+            for (int index = 0; index < count; index++) {
+                WaitTimeStatistics statistics = results.get(index).getStrategyResults(name).getStatistics();
+                averages[index] = statistics.getAverage();
+                worsts[index] = statistics.getWorst();
+            }
+            if (confidenceWidth(averages) > width || confidenceWidth(worsts) > width) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the width of the 95% confidence interval of the mean of the values.
+     * @param values  at least two sample values
+     */
+    private static double confidenceWidth(double[] values) {
+        int count = values.length;
+        double mean = 0;
+        for (double value : values) mean += value;
+        mean /= count;
+
+        double variance = 0;
+        for (double value : values) variance += (value - mean) * (value - mean);
+        variance /= count - 1;
+
+        int degrees = count - 1;
+        double critical = degrees <= T_CRITICAL_95.length ? T_CRITICAL_95[degrees - 1] : Z_CRITICAL_95;
+        return 2 * critical * Math.sqrt(variance / count);
+    }
+
+    /**
+     * Returns the scheduler trials are run on. Unless one was
+     * specified this is the {@link TrialScheduler#getShared() shared} one.
+     */
+    public TrialScheduler getTrialScheduler() {
+        return trialScheduler != null ? trialScheduler : TrialScheduler.getShared();
+    }
+
+    /**
+     * Specifies the scheduler to run trials on instead of the shared one.
+     * @param scheduler  scheduler to use or {@code null} for the shared one
+     */
+    public void setTrialScheduler(TrialScheduler scheduler) {
+        trialScheduler = scheduler;
+    }
+
+    /**
+     * Returns the drone settings, which for a fleet of
+     * several drones are those of the first drone.
+     * @author Christian Burns
+     */
+    public Drone getDroneSettings() {
+        return fleet.getDrone(0);
+    }
+
+    /**
+     * Returns the fleet of drones delivering the orders.
+     */
+    public Fleet getFleet() {
+        return fleet;
+    }
+
+    /**
+     * Specifies a new fleet of drones to deliver the orders.
+     * @param other  fleet to use
+     */
+    public void setFleet(Fleet other) throws IllegalArgumentException {
+        if(other == null)
+            throw new IllegalArgumentException("Fleet cannot be null.");
+
+        fleet = new Fleet(other);
+    }
+
+    /**
+     * Returns the master seed used by every run or {@code null}
+     * if each run is seeded randomly.
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Specifies the master seed every run is seeded with so runs can be replayed.
+     * @param seed  master seed or {@code null} to seed each run randomly
+     */
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns {@code true} if trial results keep every delivered order.
+     */
+    public boolean isRetainingOrders() {
+        return retainingOrders;
+    }
+
+    /**
+     * Specifies whether trial results keep every delivered order, which is needed
+     * to list individual orders. Otherwise only the wait time statistics are kept,
+     * so memory use does not grow with the number of orders and trials.
+     * @param retain  {@code true} to keep the delivered orders
+     */
+    public void setRetainingOrders(boolean retain) {
+        retainingOrders = retain;
+    }
+
+    /**
+     * Returns the names of the packing strategies every trial evaluates.
+     */
+    public List<String> getPackingStrategies() {
+        return packingStrategies;
+    }
+
+    /**
+     * Specifies the packing strategies every trial evaluates against the same orders.
+     * @param names  names of {@link PackingStrategies registered} strategies
+     * @throws IllegalArgumentException  if the list is empty, contains
+     *                                   duplicates or an unknown strategy
+     */
+    public void setPackingStrategies(List<String> names) throws IllegalArgumentException {
+        if(names == null || names.isEmpty())
+            throw new IllegalArgumentException("At least one packing strategy is required.");
+        for (String name : names) {
+            if (!PackingStrategies.isRegistered(name))
+                throw new IllegalArgumentException("Unknown packing strategy \"" + name + "\".");
+        }
+        if (new HashSet<>(names).size() != names.size())
+            throw new IllegalArgumentException("Packing strategies cannot be repeated.");
+
+        packingStrategies = List.copyOf(names);
+    }
+
+    /**
+     * Returns the settings controlling how many trials are run.
+     */
+    public TrialSettings getTrialSettings() {
+        return trialSettings;
+    }
+
+    /**
+     * Returns the settings controlling how the routes of flights are planned.
+     */
+    public RoutingSettings getRoutingSettings() {
+        return routingSettings;
+    }
+
+    /**
+     * Adds specified food item to the list of known foods
+     * @author Christian Burns
+     * @param food  food item to be added
+     */
+    public void addFoodItem(FoodItem food) throws IllegalArgumentException {
+        if(food == null)
+            throw new IllegalArgumentException("Food item cannot be null.");
+
+        if (!foodItems.contains(food))
+            foodItems.add(food);
+    }
+
+    /**
+     * Adds specified food items to the list of known foods
+     * @author Christian Burns
+     * @param foods  list of food items
+     */
+    public void addFoodItems(FoodItem... foods) {
+        for (FoodItem food : foods) addFoodItem(food);
+    }
+
+    /**
+     * Adds specified meal to ArrayList of known meals
+     * @author Christian Burns
+     * @param meal  the meal to be added
+     */
+    public void addMealType(Meal meal) throws IllegalArgumentException {
+        if(meal == null)
+            throw new IllegalArgumentException("Meal cannot be null.");
+
+        if (!mealTypes.contains(meal))
+            mealTypes.add(meal);
+    }
+
+    /**
+     * Adds specified meal types to the list of known meals
+     * @author Christian Burns
+     * @param meals  list of meal types
+     */
+    public void addMealTypes(Meal... meals) {
+        for (Meal meal : meals) addMealType(meal);
+    }
+
+    /**
+     * Returns a list of all known meals
+     * @author  Christian Burns
+     */
+    public ArrayList<Meal> getMealTypes() {
+        return new ArrayList<>(mealTypes);
+    }
+
+    /**
+     * Makes specified stochastic flow the model for current simulation
+     * @author Izzy Patnode
+     * @param numberMeals the number of meals per hour for each hour
+     * @throws IllegalArgumentException  if number of hours per shift is not 4
+     */
+    public void addStochasticFlow(List<Integer> numberMeals) throws IllegalArgumentException {
+        if(numberMeals == null)
+            throw new IllegalArgumentException("numberMeals cannot be null.");
+
+        //throws exception if number of hours per shift is not 4
+        if(numberMeals.size() != NUMBER_OF_SHIFTS)
+            throw new IllegalArgumentException("Number of hours per shift must be 4");
+
+        //copies over number of meals per hour
+        this.stochasticFlow = new ArrayList<>(numberMeals);
+    }
+
+    /**
+     * Method to get the simulation's stochastic flow
+     * @author Izzy Patnode
+     * @return the simulation's stochastic flow model
+     */
+    public ArrayList<Integer> getStochasticFlow() {
+        return stochasticFlow;
+    }
+
+
+    /**Method to get list of simulation's delivery points
+     * @author Izzy Patnode
+     * @return the simulation's list of delivery points
+     */
+    public DeliveryPoints getDeliveryPoints() {
+        return deliveryPoints;
+    }
+
+    /**
+     * Specifies a new collection of delivery points to use.
+     * @author Christian Burns
+     */
+    public void setDeliveryPoints(DeliveryPoints other) throws IllegalArgumentException {
+        if(other == null)
+            throw new IllegalArgumentException("DeliveryPoints cannot be null.");
+
+        deliveryPoints = new DeliveryPoints(other);
+    }
+
+    /**Method to get list of simulation's food items
+     * @author Rachel Franklin
+     * @return the simulation's live list of food items
+     */
+    public List<FoodItem> getFoodItems() {
+        return foodItems;
+    }
+
+    /**
+     * Removes the specified food item from the simulation.
+     * @author Christian Burns
+     * @param food  food item to be removed
+     * @return  {@code true} if the item was removed.
+     *          {@code false} if the item did not exist.
+     * @see Simulation#getFoodItem(String name)
+     */
+    public boolean removeFoodItem(FoodItem food) {
+        for(Meal meal: mealTypes) {
+            while(meal.getFoods().contains(food)) {
+                meal.removeItem(food);
+            }
+        }
+        return foodItems.remove(food);
+    }
+
+    /**
+     * Retrieves an existing food item by name.
+     * @author Christian Burns
+     * @param name  name of the food
+     * @return  the food item or null if not found
+     */
+    public FoodItem getFoodItem(String name) {
+        return foodItems.stream().filter(food -> food.getName().equals(name)).findFirst().orElse(null);
+    }
+
+    /**
+     * Removes the specified meal type from the simulation.
+     * @author Christian Burns
+     * @param meal  meal to be removed
+     * @return  {@code true} if the meal was removed.
+     *          {@code false} if the meal did not exist.
+     */
+    public boolean removeMeal(Meal meal) {
+        return mealTypes.remove(meal);
+    }
+
+    @Override
+    public Element toXml(Document document) {
+        Element root = document.createElement("simulation");
+        root.setAttribute("name", simulationName);
+        if (seed != null) root.setAttribute("seed", String.valueOf(seed));
+
+        Element stochasticElement = document.createElement("stochastic");
+        for (int index = 0; index < stochasticFlow.size(); index++) {
+            Element hour = document.createElement("hour" + index);
+            hour.setAttribute("orders", String.valueOf(stochasticFlow.get(index)));
+            stochasticElement.appendChild(hour);
+        }
+
+        Element foods = document.createElement("fooditems");
+        for (FoodItem food : foodItems) foods.appendChild(food.toXml(document));
+
+        Element meals = document.createElement("mealtypes");
+        for (Meal meal : mealTypes) meals.appendChild(meal.toXml(document));
+
+        root.appendChild(stochasticElement);
+        // a single drone is saved as before so older versions can still load it
+        if (fleet.size() == 1)
+            root.appendChild(fleet.getDrone(0).toXml(document));
+        else
+            root.appendChild(fleet.toXml(document));
+        root.appendChild(trialSettings.toXml(document));
+        root.appendChild(routingSettings.toXml(document));
+
+        Element packing = document.createElement("packing");
+        for (String name : packingStrategies) {
+            Element strategy = document.createElement("strategy");
+            strategy.setAttribute("name", name);
+            packing.appendChild(strategy);
+        }
+        root.appendChild(packing);
+        root.appendChild(foods);
+        root.appendChild(meals);
+        root.appendChild(deliveryPoints.toXml(document));
+        return root;
+    }
+
+    @Override
+    public String toString() {
+        return simulationName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+        Simulation that = (Simulation) other;
+        return simulationName.equals(that.simulationName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(simulationName);
+    }
+}
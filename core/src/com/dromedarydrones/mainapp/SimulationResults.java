@@ -0,0 +1,330 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.food.Order;
+import com.dromedarydrones.location.RouteCache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results class containing the overview of all simulation trial results.
+ * The wait time statistics of every trial are merged into overall statistics
+ * for each packing strategy, so the delivered orders only need to be kept if
+ * they are to be listed.
+ * @author  Christian Burns
+ */
+public class SimulationResults {
+
+    /** percentiles of the wait times reported for every packing algorithm */
+    public static final double[] REPORTED_PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    /** Overall results of a single packing strategy. */
+    private static final class StrategySummary {
+        private final WaitTimeStatistics statistics = new WaitTimeStatistics();
+        private final List<DroneUtilization> utilization = new ArrayList<>();
+        private double averageTime = 0.0;   // average of the average wait time of each trial
+        private List<Double> times = null;  // sorted wait times, collected when first requested
+    }
+
+    private final ArrayList<TrialResults> trialResults;
+    private final long seed;
+    private final RouteCache routeCache;                    // routes cached during the run, or null
+    private final Map<String, StrategySummary> summaries;  // overall results in evaluation order
+
+    /**
+     * Default constructor for compiling together
+     * all the results from each simulation trial.
+     * @param trialResults  list of all trial results
+     */
+    public SimulationResults(ArrayList<TrialResults> trialResults) {
+        this(trialResults, 0);
+    }
+
+    /**
+     * Compiles together all the results from each simulation trial
+     * of a run seeded with the specified master seed.
+     * @param trialResults  list of all trial results
+     * @param seed          master seed the run was seeded with
+     */
+    public SimulationResults(ArrayList<TrialResults> trialResults, long seed) {
+        this(trialResults, seed, null);
+    }
+
+    /**
+     * Compiles together all the results from each simulation trial
+     * of a run seeded with the specified master seed.
+     * @param trialResults  list of all trial results
+     * @param seed          master seed the run was seeded with
+     * @param routeCache    cache of the routes planned during the run, or {@code null}
+     */
+    public SimulationResults(ArrayList<TrialResults> trialResults, long seed, RouteCache routeCache) {
+        this.seed = seed;
+        this.routeCache = routeCache;
+        this.trialResults = trialResults;
+        summaries = new LinkedHashMap<>();
+        int trialCount = trialResults.size();
+
+        for (TrialResults result : trialResults) {
+            for (String name : result.getStrategyNames()) {
+                StrategyResults strategyResults = result.getStrategyResults(name);
+                StrategySummary summary = summaries.computeIfAbsent(name, key -> new StrategySummary());
+                summary.averageTime += strategyResults.getStatistics().getAverage();
+                summary.statistics.merge(strategyResults.getStatistics());
+                mergeUtilization(summary.utilization, strategyResults.getUtilization());
+            }
+        }
+
+        for (StrategySummary summary : summaries.values())
+            summary.averageTime /= trialCount;
+    }
+
+    /**
+     * Returns the master seed the simulation was run with. Setting it as the
+     * {@link Simulation#setSeed(Long) simulation's seed} replays the run.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the cache of the routes planned during the run, whose counters
+     * tell how often routes were reused, or {@code null} if routes were not cached.
+     */
+    public RouteCache getRouteCache() {
+        return routeCache;
+    }
+
+    /**
+     * Returns the list of all trial results from the simulation
+     */
+    public ArrayList<TrialResults> getTrialResults() {
+        return trialResults;
+    }
+
+    /**
+     * Returns {@code true} if the delivered orders of every trial were kept.
+     */
+    public boolean hasDeliveries() {
+        return !trialResults.isEmpty() && trialResults.stream().allMatch(TrialResults::hasDeliveries);
+    }
+
+    /**
+     * Returns the names of the evaluated packing strategies in evaluation order.
+     */
+    public List<String> getStrategyNames() {
+        return new ArrayList<>(summaries.keySet());
+    }
+
+    /**
+     * Returns the overall results of a strategy or empty ones if it was not evaluated.
+     */
+    private StrategySummary summaryOf(String name) {
+        StrategySummary summary = summaries.get(name);
+        return summary != null ? summary : new StrategySummary();
+    }
+
+    /**
+     * Returns the statistics of all wait times of every trial of a packing strategy.
+     * @param name  name of the strategy
+     */
+    public WaitTimeStatistics getStatistics(String name) {
+        return summaryOf(name).statistics;
+    }
+
+    /**
+     * Returns the utilization of each drone of the fleet over every trial of a packing strategy.
+     * @param name  name of the strategy
+     */
+    public List<DroneUtilization> getUtilization(String name) {
+        return Collections.unmodifiableList(summaryOf(name).utilization);
+    }
+
+    /**
+     * Returns the overall average wait time of a packing strategy.
+     * @param name  name of the strategy
+     */
+    public double getAverageTime(String name) {
+        return summaryOf(name).averageTime;
+    }
+
+    /**
+     * Returns the absolute worst wait time of a packing strategy.
+     * @param name  name of the strategy
+     */
+    public double getWorstTime(String name) {
+        return summaryOf(name).statistics.getWorst();
+    }
+
+    /**
+     * Returns the percent of orders of a packing strategy that had to
+     * be remade due to their delivery times exceeding 2 hours.
+     * <br>
+     * A return value of 0.15 represents 15%
+     * @param name  name of the strategy
+     */
+    public double getPercentExpired(String name) {
+        return summaryOf(name).statistics.getPercentExpired();
+    }
+
+    /**
+     * Returns the estimated wait time at the given percentile
+     * of all orders of every trial of a packing strategy.
+     * @param name        name of the strategy
+     * @param percentile  percentile between 0 and 100, such as 99.9
+     */
+    public double getPercentile(String name, double percentile) throws IllegalArgumentException {
+        return summaryOf(name).statistics.getPercentile(percentile);
+    }
+
+    /**
+     * Returns the sorted delivery wait times in seconds of a packing
+     * strategy or an empty list if the delivered orders were not kept.
+     * @param name  name of the strategy
+     */
+    public List<Double> getTimes(String name) {
+        StrategySummary summary = summaries.get(name);
+        if (summary == null) return Collections.emptyList();
+        if (summary.times == null)
+            summary.times = sortedWaitTimes(name);
+        return summary.times;
+    }
+
+    /**
+     * Returns the sorted fifo delivery wait times in seconds or
+     * an empty list if the delivered orders were not kept.
+     */
+    public List<Double> getFifoTimes() {
+        return getTimes(PackingStrategies.FIFO);
+    }
+
+    /**
+     * Returns the statistics of all fifo wait times of every trial.
+     */
+    public WaitTimeStatistics getFifoStatistics() {
+        return getStatistics(PackingStrategies.FIFO);
+    }
+
+    /**
+     * Returns the utilization of each drone of the fleet over every fifo trial.
+     */
+    public List<DroneUtilization> getFifoUtilization() {
+        return getUtilization(PackingStrategies.FIFO);
+    }
+
+    /**
+     * Returns the overall average fifo wait time.
+     */
+    public double getAverageFifoTime() {
+        return getAverageTime(PackingStrategies.FIFO);
+    }
+
+    /**
+     * Returns the average percent of fifo orders that had to
+     * be remade due to their delivery times exceeding 2 hours.
+     * <br>
+     * A return value of 0.15 represents 15%
+     * @author Christian Burns
+     */
+    public double getPercentFifoExpired() {
+        return getPercentExpired(PackingStrategies.FIFO);
+    }
+
+    /**
+     * Returns the absolute worst fifo wait time.
+     */
+    public double getWorstFifoTime() {
+        return getWorstTime(PackingStrategies.FIFO);
+    }
+
+    /**
+     * Returns the estimated fifo wait time at the given percentile
+     * of all fifo orders of every trial.
+     * @param percentile  percentile between 0 and 100, such as 99.9
+     */
+    public double getFifoPercentile(double percentile) throws IllegalArgumentException {
+        return getPercentile(PackingStrategies.FIFO, percentile);
+    }
+
+    /**
+     * Returns the sorted knapsack delivery wait times in seconds or
+     * an empty list if the delivered orders were not kept.
+     */
+    public List<Double> getKnapsackTimes() {
+        return getTimes(PackingStrategies.KNAPSACK);
+    }
+
+    /**
+     * Returns the statistics of all knapsack wait times of every trial.
+     */
+    public WaitTimeStatistics getKnapsackStatistics() {
+        return getStatistics(PackingStrategies.KNAPSACK);
+    }
+
+    /**
+     * Returns the utilization of each drone of the fleet over every knapsack trial.
+     */
+    public List<DroneUtilization> getKnapsackUtilization() {
+        return getUtilization(PackingStrategies.KNAPSACK);
+    }
+
+    /**
+     * Returns the overall average knapsack wait time.
+     */
+    public double getAverageKnapsackTime() {
+        return getAverageTime(PackingStrategies.KNAPSACK);
+    }
+
+    /**
+     * Returns the average percent of knapsack orders that had to
+     * be remade due to their delivery times exceeding 2 hours.
+     * <br>
+     * A return value of 0.15 represents 15%
+     * @author Christian Burns
+     */
+    public double getPercentKnapsackExpired() {
+        return getPercentExpired(PackingStrategies.KNAPSACK);
+    }
+
+    /**
+     * Returns the overall worst knapsack wait time.
+     */
+    public double getWorstKnapsackTime() {
+        return getWorstTime(PackingStrategies.KNAPSACK);
+    }
+
+    /**
+     * Returns the estimated knapsack wait time at the given percentile
+     * of all knapsack orders of every trial.
+     * @param percentile  percentile between 0 and 100, such as 99.9
+     */
+    public double getKnapsackPercentile(double percentile) throws IllegalArgumentException {
+        return getPercentile(PackingStrategies.KNAPSACK, percentile);
+    }
+
+    /**
+     * Merges the utilization of each drone of a trial into the overall utilization of the same drone.
+     */
+    private static void mergeUtilization(List<DroneUtilization> overall, List<DroneUtilization> trial) {
+        for (int index = 0; index < trial.size(); index++) {
+            if (index == overall.size()) overall.add(new DroneUtilization());
+            overall.get(index).merge(trial.get(index));
+        }
+    }
+
+    /**
+     * Collects the wait times of every order delivered with a
+     * packing strategy into an unmodifiable sorted list.
+     */
+    private List<Double> sortedWaitTimes(String name) {
+        double[] waitTimes = trialResults.stream()
+                .flatMap(result -> result.getStrategyResults(name).getDeliveries().stream())
+                .mapToDouble(Order::getWaitTime).sorted().toArray();
+        List<Double> sorted = new ArrayList<>(waitTimes.length);
+        for (double waitTime : waitTimes) sorted.add(waitTime);
+        return Collections.unmodifiableList(sorted);
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.food.FrozenMeal;
+import com.dromedarydrones.food.Meal;
+import com.dromedarydrones.location.DistanceMatrix;
+import com.dromedarydrones.location.Point;
+import com.dromedarydrones.location.RoutePlanner;
+import com.dromedarydrones.sampling.AliasSampler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable copy of everything the trials of a run read from a {@link Simulation},
+ * compiled once when the run starts and shared by all of its trials.
+ * <p>
+ * The drones, meals and delivery points are copied, so editing the simulation
+ * while it runs does not affect the run, and the trials need no copies of their
+ * own. The meals are {@link FrozenMeal frozen}, so their weights are plain
+ * fields. The distances between the points, the samplers of meals and
+ * destinations and the route planner are built once. Nothing a snapshot exposes
+ * is modified afterwards, so it can be read by any number of threads.
+ */
+public final class SimulationSnapshot {
+
+    private final List<Drone> drones;                   // copies of the drones of the fleet
+    private final AliasSampler<Meal> meals;             // draws frozen copies of the meals by their probability
+    private final AliasSampler<Point> destinations;     // draws copies of the points by their demand
+    private final RoutePlanner planner;                 // plans routes between the points
+    private final int[] ordersPerHour;                  // number of orders placed each hour
+    private final List<String> strategyNames;           // packing strategies to evaluate
+    private final boolean retainingOrders;              // whether delivered orders are kept in the results
+
+    /**
+     * Compiles a snapshot of a simulation.
+     * @param simulation  simulation to copy
+     * @throws IllegalArgumentException  if the simulation has no meal or delivery point that can be drawn
+     */
+    public SimulationSnapshot(Simulation simulation) throws IllegalArgumentException {
+        if (simulation == null)
+            throw new IllegalArgumentException("Simulation cannot be null.");
+
+        drones = new Fleet(simulation.getFleet()).getDrones();
+
+        List<Meal> mealCopies = new ArrayList<>();
+        for (Meal meal : simulation.getMealTypes()) mealCopies.add(new FrozenMeal(meal));
+        meals = new AliasSampler<>(mealCopies, Meal::getProbability);
+
+        // the distances are computed between the very copies the sampler draws
+        destinations = simulation.getDeliveryPoints().createDemandSampler();
+        List<Point> points = new ArrayList<>(destinations.size());
+        for (int index = 0; index < destinations.size(); index++) points.add(destinations.get(index));
+        planner = new RoutePlanner(new DistanceMatrix(points), simulation.getRoutingSettings());
+
+        List<Integer> flow = simulation.getStochasticFlow();
+        ordersPerHour = new int[flow.size()];
+        for (int hour = 0; hour < ordersPerHour.length; hour++)
+            ordersPerHour[hour] = flow.get(hour);
+
+        strategyNames = Collections.unmodifiableList(new ArrayList<>(simulation.getPackingStrategies()));
+        retainingOrders = simulation.isRetainingOrders();
+    }
+
+    /**
+     * Returns the drones of the fleet, which must not be modified.
+     */
+    public List<Drone> getDrones() {
+        return drones;
+    }
+
+    /**
+     * Returns the sampler drawing meals by their probability.
+     */
+    public AliasSampler<Meal> getMealSampler() {
+        return meals;
+    }
+
+    /**
+     * Returns the sampler drawing delivery points by their demand.
+     */
+    public AliasSampler<Point> getDestinationSampler() {
+        return destinations;
+    }
+
+    /**
+     * Returns the planner of routes between the delivery points, whose cache is shared by every trial.
+     */
+    public RoutePlanner getRoutePlanner() {
+        return planner;
+    }
+
+    /**
+     * Returns the number of hours orders are placed in.
+     */
+    public int getHourCount() {
+        return ordersPerHour.length;
+    }
+
+    /**
+     * Returns the number of orders placed in an hour.
+     * @param hour  index of the hour starting at 0
+     */
+    public int getOrdersInHour(int hour) {
+        return ordersPerHour[hour];
+    }
+
+    /**
+     * Returns the names of the packing strategies to evaluate.
+     */
+    public List<String> getStrategyNames() {
+        return strategyNames;
+    }
+
+    /**
+     * Returns {@code true} if delivered orders are kept in the results.
+     */
+    public boolean isRetainingOrders() {
+        return retainingOrders;
+    }
+}
@@ -0,0 +1,72 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.food.Order;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Results of delivering the orders of a trial with one packing strategy:
+ * the wait time statistics, the utilization of each drone of the fleet and,
+ * when requested, the delivered orders sorted by the time they were placed.
+ */
+public class StrategyResults {
+
+    private final String name;
+    private final WaitTimeStatistics statistics;
+    private final List<Order> deliveries;
+    private final List<DroneUtilization> utilization;
+
+    /**
+     * Compiles the results of a packing strategy.
+     * @param name         name of the packing strategy
+     * @param statistics   wait times of the delivered orders
+     * @param deliveries   delivered orders or an empty list if they were not kept
+     * @param utilization  utilization of each drone of the fleet
+     */
+    public StrategyResults(String name, WaitTimeStatistics statistics, List<Order> deliveries,
+                           List<DroneUtilization> utilization) throws IllegalArgumentException {
+        if (name == null)
+            throw new IllegalArgumentException("Name cannot be null.");
+        if (statistics == null)
+            throw new IllegalArgumentException("Statistics cannot be null.");
+        if (deliveries == null || utilization == null)
+            throw new IllegalArgumentException("Lists cannot be null.");
+
+        this.name = name;
+        this.statistics = statistics;
+        this.deliveries = deliveries;
+        this.utilization = utilization;
+
+        // sort the orders based on their creation times
+        Collections.sort(deliveries);
+    }
+
+    /**
+     * Returns the name of the packing strategy.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the statistics of the wait times.
+     */
+    public WaitTimeStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the delivered orders or an empty list if they were not kept.
+     */
+    public List<Order> getDeliveries() {
+        return deliveries;
+    }
+
+    /**
+     * Returns the utilization of each drone of the fleet.
+     */
+    public List<DroneUtilization> getUtilization() {
+        return utilization;
+    }
+}
@@ -0,0 +1,149 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.food.Meal;
+import com.dromedarydrones.food.Order;
+import com.dromedarydrones.location.Point;
+import com.dromedarydrones.location.RoutePlanner;
+import com.dromedarydrones.sampling.AliasSampler;
+
+import java.util.*;
+
+/**
+ * @author  Izzy Patnode, Christian Burns, Brendan Ortmann, and Rachel Franklin
+ */
+public class Trial {
+
+    private final List<Drone> drones;               // drones of the fleet
+    private final AliasSampler<Meal> mealSampler;   // draws meals by their probability
+    private final AliasSampler<Point> destinations; // draws destinations by their demand
+    private final RoutePlanner planner;             // plans routes between the destinations
+    private final SimulationSnapshot snapshot;      // simulation the trial is part of
+
+    private final List<String> strategyNames;       // packing strategies to evaluate
+    private final OrderStore orders;                // orders placed during the shift, sorted by time
+    private final boolean retainingOrders;          // whether delivered orders are kept in the results
+    private final SplittableRandom random;          // random number generator for generating orders
+    private final List<SplittableRandom> routeRandoms;  // random number generator for the routes of each strategy
+
+    private static final int SECONDS_PER_HOUR = 3600;   // 60 seconds * 60 minutes
+
+    /**
+     * Constructor for creating a single four-hour shift
+     * @author Izzy Patnode, Christian Burns
+     * @param simulationConfiguration  simulation configuration to use
+     */
+    public Trial(Simulation simulationConfiguration) throws IllegalArgumentException {
+        this(simulationConfiguration, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for creating a single four-hour shift whose orders and routes are
+     * drawn from independent streams split off of the given random number generator.
+     * Two trials created from generators in the same state produce identical results.
+     * @param simulationConfiguration  simulation configuration to use
+     * @param seedRandom               random number generator the trial's streams are split from
+     */
+    public Trial(Simulation simulationConfiguration, SplittableRandom seedRandom) throws IllegalArgumentException {
+        this(simulationConfiguration == null ? null : new SimulationSnapshot(simulationConfiguration), seedRandom);
+    }
+
+    /**
+     * Constructor for creating a single four-hour shift of a run, reading everything
+     * from the snapshot of the simulation shared by every trial of the run.
+     * @param snapshot    snapshot of the simulation to use
+     * @param seedRandom  random number generator the trial's streams are split from
+     */
+    public Trial(SimulationSnapshot snapshot, SplittableRandom seedRandom) throws IllegalArgumentException {
+        if(snapshot == null)
+            throw new IllegalArgumentException("Simulation configuration cannot be null.");
+        if(seedRandom == null)
+            throw new IllegalArgumentException("Random number generator cannot be null.");
+
+        this.snapshot = snapshot;
+        drones = snapshot.getDrones();
+        mealSampler = snapshot.getMealSampler();
+        destinations = snapshot.getDestinationSampler();
+        planner = snapshot.getRoutePlanner();
+        strategyNames = snapshot.getStrategyNames();
+        retainingOrders = snapshot.isRetainingOrders();
+
+        random = seedRandom.split();
+        routeRandoms = new ArrayList<>();
+        for (int index = 0; index < strategyNames.size(); index++)
+            routeRandoms.add(seedRandom.split());
+
+        orders = generateOrders();
+    }
+
+    /**
+     * Runs the simulation for one trial, delivering the same orders
+     * with every packing strategy, and returns the result.
+     * @author Christian Burns
+     */
+    public TrialResults run() {
+        List<StrategyResults> results = new ArrayList<>();
+        for (int index = 0; index < strategyNames.size(); index++)
+            results.add(runDeliveries(index));
+        return new TrialResults(results);
+    }
+
+    /**
+     * Generates delivery times of the orders with the specified packing strategy.
+     * Every strategy sets its own delivery times in the order store, so the orders
+     * are shared by the strategies and only created as objects if the results keep them.
+     * @param strategy  index of the packing strategy
+     * @return  results of the strategy
+     */
+    private StrategyResults runDeliveries(int strategy) {
+        String name = strategyNames.get(strategy);
+        WaitTimeStatistics statistics = new WaitTimeStatistics();
+        List<Order> deliveries = new ArrayList<>();
+        DeliverySimulation simulation = new DeliverySimulation(drones, orders, strategy, PackingStrategies.create(name),
+                planner, routeRandoms.get(strategy), statistics, retainingOrders ? deliveries : null);
+        simulation.run();
+        return new StrategyResults(name, statistics, deliveries, simulation.getUtilization());
+    }
+
+    /**
+     * Generates the random orders to be used for this trial.
+     * @author  Izzy Patnode and Christian Burns
+     * @return  store of the orders with their creation times relative
+     *          to the start of the simulation in seconds.
+     */
+    private OrderStore generateOrders() {
+
+        int hour, mealsPerHour, mealNum, creationTime, meal;
+        int hourCount = snapshot.getHourCount();
+        int orderCount = 0;
+        for (hour = 0; hour < hourCount; hour++)
+            orderCount += snapshot.getOrdersInHour(hour);
+        OrderStore store = new OrderStore(snapshot, orderCount);
+
+        // generates a list of random order times according to the given stochastic flow
+        for (hour = 0; hour < hourCount; hour++) {
+            // number of meals to be generated in specific hour
+            mealsPerHour = snapshot.getOrdersInHour(hour);
+
+            // generates each order time for all orders in each hour slot
+            for (mealNum = 0; mealNum < mealsPerHour; mealNum++) {
+                // calculates time of order using given hour (i.e. first hour, second hour, etc.)
+                creationTime = (random.nextInt(SECONDS_PER_HOUR) + 1) + (SECONDS_PER_HOUR * hour);
+                meal = mealSampler.sampleIndex(random);
+                store.add(creationTime, meal, destinations.sampleIndex(random));
+            }
+        }
+
+        // sorts list of order times in increasing order relative to their creation times
+        store.sortByTime();
+        return store;
+    }
+
+    /**
+     * Method for randomly generating the meal to be ordered based on meal's probability
+     * @author Rachel Franklin
+     * @return the specific meal that is ordered
+     */
+    public Meal getRandomMeal() {
+        return mealSampler.sample(random);
+    }
+}
@@ -0,0 +1,192 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.food.Order;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results class to hold information from one specific trial,
+ * keyed by the name of each packing strategy that was evaluated.
+ * The wait time statistics are always available while the
+ * delivered orders themselves are only kept when requested.
+ * @author  Christian Burns
+ */
+public class TrialResults {
+
+    private final Map<String, StrategyResults> strategyResults;  // results in evaluation order
+
+    /**
+     * Default constructor to compile the results of a single simulation trial.
+     * @param fifoDeliveries      order results of running the fifo simulation
+     * @param knapsackDeliveries  order results of running the knapsack simulation
+     */
+    public TrialResults(List<Order> fifoDeliveries, List<Order> knapsackDeliveries) {
+        this(statisticsOf(fifoDeliveries), fifoDeliveries, statisticsOf(knapsackDeliveries), knapsackDeliveries);
+    }
+
+    /**
+     * Compiles the results of a single simulation trial whose wait times were
+     * accumulated during the trial. The order lists may be empty if the
+     * delivered orders were not kept.
+     * @param fifoStatistics      wait times of the fifo simulation
+     * @param fifoDeliveries      delivered fifo orders or an empty list
+     * @param knapsackStatistics  wait times of the knapsack simulation
+     * @param knapsackDeliveries  delivered knapsack orders or an empty list
+     */
+    public TrialResults(WaitTimeStatistics fifoStatistics, List<Order> fifoDeliveries,
+                        WaitTimeStatistics knapsackStatistics, List<Order> knapsackDeliveries)
+            throws IllegalArgumentException {
+        this(List.of(
+                new StrategyResults(PackingStrategies.FIFO, fifoStatistics, fifoDeliveries,
+                        Collections.emptyList()),
+                new StrategyResults(PackingStrategies.KNAPSACK, knapsackStatistics, knapsackDeliveries,
+                        Collections.emptyList())));
+    }
+
+    /**
+     * Compiles the results of every packing strategy evaluated in a single simulation trial.
+     * @param results  results of each strategy in evaluation order
+     * @throws IllegalArgumentException  if the list is null or two results have the same name
+     */
+    public TrialResults(List<StrategyResults> results) throws IllegalArgumentException {
+        if (results == null)
+            throw new IllegalArgumentException("Results cannot be null.");
+
+        strategyResults = new LinkedHashMap<>();
+        for (StrategyResults result : results) {
+            if (strategyResults.putIfAbsent(result.getName(), result) != null)
+                throw new IllegalArgumentException("Duplicate results of \"" + result.getName() + "\".");
+        }
+    }
+
+    /**
+     * Accumulates the wait times of a list of delivered orders.
+     */
+    private static WaitTimeStatistics statisticsOf(List<Order> deliveries) throws IllegalArgumentException {
+        if (deliveries == null)
+            throw new IllegalArgumentException("Order lists cannot be null.");
+
+        WaitTimeStatistics statistics = new WaitTimeStatistics();
+        for (Order order : deliveries)
+            statistics.add(order.getWaitTime());
+        return statistics;
+    }
+
+    /**
+     * Returns the names of the evaluated packing strategies in evaluation order.
+     */
+    public List<String> getStrategyNames() {
+        return new ArrayList<>(strategyResults.keySet());
+    }
+
+    /**
+     * Returns the results of a packing strategy.
+     * @param name  name of the strategy
+     * @return  results of the strategy or empty results if it was not evaluated
+     */
+    public StrategyResults getStrategyResults(String name) {
+        StrategyResults results = strategyResults.get(name);
+        if (results == null)
+            return new StrategyResults(name, new WaitTimeStatistics(), new ArrayList<>(), Collections.emptyList());
+        return results;
+    }
+
+    /**
+     * Returns {@code true} if the delivered orders were kept.
+     */
+    public boolean hasDeliveries() {
+        return strategyResults.values().stream().anyMatch(results -> !results.getDeliveries().isEmpty());
+    }
+
+    /**
+     * Returns the fifo orders or an empty list if they were not kept.
+     */
+    public List<Order> getFifoDeliveries() {
+        return getStrategyResults(PackingStrategies.FIFO).getDeliveries();
+    }
+
+    /**
+     * Returns the statistics of the fifo wait times.
+     */
+    public WaitTimeStatistics getFifoStatistics() {
+        return getStrategyResults(PackingStrategies.FIFO).getStatistics();
+    }
+
+    /**
+     * Returns the utilization of each drone of the fleet in the fifo simulation.
+     */
+    public List<DroneUtilization> getFifoUtilization() {
+        return getStrategyResults(PackingStrategies.FIFO).getUtilization();
+    }
+
+    /**
+     * Returns the average fifo wait time
+     */
+    public double getAverageFifoTime() {
+        return getFifoStatistics().getAverage();
+    }
+
+    /**
+     * Returns the worst fifo wait time
+     */
+    public double getWorstFifoTime() {
+        return getFifoStatistics().getWorst();
+    }
+
+    /**
+     * Returns the number of fifo orders that had
+     * a delivery time exceeding two hours.
+     * @author Christian Burns
+     */
+    public int numExpiredFifoOrders() {
+        return (int) getFifoStatistics().getExpiredCount();
+    }
+
+    /**
+     * Returns the knapsack orders or an empty list if they were not kept.
+     */
+    public List<Order> getKnapsackDeliveries() {
+        return getStrategyResults(PackingStrategies.KNAPSACK).getDeliveries();
+    }
+
+    /**
+     * Returns the statistics of the knapsack wait times.
+     */
+    public WaitTimeStatistics getKnapsackStatistics() {
+        return getStrategyResults(PackingStrategies.KNAPSACK).getStatistics();
+    }
+
+    /**
+     * Returns the utilization of each drone of the fleet in the knapsack simulation.
+     */
+    public List<DroneUtilization> getKnapsackUtilization() {
+        return getStrategyResults(PackingStrategies.KNAPSACK).getUtilization();
+    }
+
+    /**
+     * Returns the average knapsack wait time
+     */
+    public double getAverageKnapsackTime() {
+        return getKnapsackStatistics().getAverage();
+    }
+
+    /**
+     * Returns the worst knapsack wait time
+     */
+    public double getWorstKnapsackTime() {
+        return getKnapsackStatistics().getWorst();
+    }
+
+    /**
+     * Returns the number of knapsack orders that
+     * had a delivery time exceeding two hours.
+     * @author Christian Burns
+     */
+    public int numExpiredKnapsackOrders() {
+        return (int) getKnapsackStatistics().getExpiredCount();
+    }
+}
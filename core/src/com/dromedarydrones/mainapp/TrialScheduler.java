@@ -0,0 +1,316 @@
+package com.dromedarydrones.mainapp;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reusable scheduler that simulation trials are run on.
+ * A single shared instance sized to the number of available processors
+ * is used by default so worker threads survive between simulation runs.
+ * Separate instances can be created to override the parallelism of a run.
+ * <p>
+ * Trials either run on a work-stealing pool or, on JDKs that support them,
+ * each on its own virtual thread. In the latter mode the parallelism is the
+ * number of CPU permits: a trial must hold a permit while it runs, so any
+ * number of trials may be in flight without tuning a pool. Only trials hold
+ * permits; tasks that wait on trials, such as whole simulation runs, do not,
+ * so any number of them can wait without taking the permits their trials need.
+ * The mode of the shared scheduler is chosen with the {@value #MODE_PROPERTY}
+ * system property.
+ */
+public class TrialScheduler {
+
+    /** system property selecting the mode of the shared scheduler ("work-stealing" or "virtual") */
+    public static final String MODE_PROPERTY = "dromedarydrones.scheduler";
+
+    /** Ways of running the scheduled tasks. */
+    public enum Mode {
+        /** tasks run on a fixed size work-stealing pool */
+        WORK_STEALING,
+        /** every task runs on its own virtual thread bounded by CPU permits */
+        VIRTUAL_THREADS;
+
+        /**
+         * Parses a mode from its command line or system property name.
+         * @param name  "work-stealing" or "virtual"
+         * @throws IllegalArgumentException  if the name is not a known mode
+         */
+        public static Mode fromName(String name) throws IllegalArgumentException {
+            if (name == null)
+                throw new IllegalArgumentException("Mode name cannot be null.");
+            switch (name.strip().toLowerCase()) {
+                case "work-stealing": return WORK_STEALING;
+                case "virtual": return VIRTUAL_THREADS;
+                default: throw new IllegalArgumentException("Unknown scheduler mode \"" + name + "\".");
+            }
+        }
+    }
+
+    // shared scheduler used by every simulation without an explicit scheduler
+    private static final TrialScheduler SHARED = createShared();
+
+    private final Mode mode;                // how tasks are run
+    private final int parallelism;          // worker threads or CPU permits
+    private final ExecutorService executor; // pool or virtual thread executor running the tasks
+    private final Semaphore permits;        // CPU permits in virtual thread mode otherwise null
+    private final AtomicInteger running;    // number of tasks currently running
+    private final AtomicLong submitted;     // number of tasks ever submitted
+    private final AtomicLong completed;     // number of tasks that have finished
+
+    /**
+     * Creates a new scheduler backed by its own work-stealing pool.
+     * @param parallelism  number of worker threads to run tasks on
+     * @throws IllegalArgumentException  if parallelism is less than one
+     */
+    public TrialScheduler(int parallelism) throws IllegalArgumentException {
+        this(Mode.WORK_STEALING, parallelism);
+    }
+
+    /**
+     * Creates a new scheduler running its tasks in the specified mode.
+     * @param mode         how tasks are run
+     * @param parallelism  number of worker threads or CPU permits
+     * @throws IllegalArgumentException  if mode is null or parallelism is less than one
+     * @throws UnsupportedOperationException  if virtual threads are not supported by this JDK
+     */
+    public TrialScheduler(Mode mode, int parallelism)
+            throws IllegalArgumentException, UnsupportedOperationException {
+        this(mode, parallelism, mode == Mode.VIRTUAL_THREADS ? newVirtualThreadExecutor() : null);
+    }
+
+    /**
+     * Creates a new scheduler running its tasks in the specified mode, starting the threads
+     * of virtual thread mode with the given executor. Tests pass an executor of platform
+     * threads to run virtual thread mode on JDKs without virtual threads.
+     * @param mode           how tasks are run
+     * @param parallelism    number of worker threads or CPU permits
+     * @param threadPerTask  executor starting a thread per task in virtual thread mode, otherwise ignored
+     * @throws IllegalArgumentException  if mode is null or parallelism is less than one
+     * @throws UnsupportedOperationException  if in virtual thread mode without an executor
+     */
+    TrialScheduler(Mode mode, int parallelism, ExecutorService threadPerTask)
+            throws IllegalArgumentException, UnsupportedOperationException {
+        if (mode == null)
+            throw new IllegalArgumentException("Mode cannot be null.");
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+
+        this.mode = mode;
+        this.parallelism = parallelism;
+        if (mode == Mode.VIRTUAL_THREADS) {
+            executor = threadPerTask;
+            if (executor == null)
+                throw new UnsupportedOperationException("Virtual threads are not supported by this JDK.");
+            permits = new Semaphore(parallelism, true);
+        } else {
+            executor = new ForkJoinPool(parallelism);
+            permits = null;
+        }
+        running = new AtomicInteger();
+        submitted = new AtomicLong();
+        completed = new AtomicLong();
+    }
+
+    /**
+     * Returns the scheduler shared by all simulation runs that were not given
+     * a scheduler of their own. It cannot be shut down.
+     */
+    public static TrialScheduler getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns {@code true} if the running JDK supports virtual threads.
+     */
+    public static boolean isVirtualThreadSupported() {
+        ExecutorService executor = newVirtualThreadExecutor();
+        if (executor == null) return false;
+        executor.shutdown();
+        return true;
+    }
+
+    /**
+     * Looks up the virtual thread executor reflectively since
+     * the project targets JDKs that predate virtual threads.
+     * @return  a new virtual thread per task executor or null if unsupported
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException exception) {
+            return null; // missing, or a preview feature that was not enabled
+        }
+    }
+
+    /**
+     * Creates the shared scheduler in the mode given by the
+     * {@value #MODE_PROPERTY} system property, falling back
+     * to work stealing if virtual threads are unavailable.
+     */
+    private static TrialScheduler createShared() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        String property = System.getProperty(MODE_PROPERTY);
+        if (property != null) {
+            try {
+                return new TrialScheduler(Mode.fromName(property), processors);
+            } catch (IllegalArgumentException | UnsupportedOperationException exception) {
+                System.err.println(String.format("%s; using the work-stealing scheduler",
+                        exception.getMessage()));
+            }
+        }
+        return new TrialScheduler(Mode.WORK_STEALING, processors);
+    }
+
+    /**
+     * Submits a task that mostly waits on other tasks, such as a whole
+     * simulation run. It is counted like a trial, but unlike trials it does
+     * not hold a CPU permit, so it cannot keep the trials it waits on from running.
+     * @param task  task to be run
+     * @return  future of the task's result
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        if (task == null)
+            throw new IllegalArgumentException("Task cannot be null.");
+
+        submitted.incrementAndGet();
+        return executor.submit(() -> runTask(task, false));
+    }
+
+    /**
+     * Submits every task and waits for all of them to finish. The returned
+     * futures are in the same order as the tasks and are all done, either
+     * normally, exceptionally, or by being cancelled.
+     * @param tasks  tasks to be run
+     * @return  list of completed futures
+     * @throws InterruptedException  if interrupted while waiting, in which
+     *                               case all unfinished tasks are cancelled
+     */
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+        if (tasks == null)
+            throw new IllegalArgumentException("Task list cannot be null.");
+
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            submitted.incrementAndGet();
+            futures.add(executor.submit(() -> runTask(task, true)));
+        }
+
+        try {
+            for (Future<T> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException | CancellationException ignore) {
+                    // the caller inspects the future itself
+                }
+            }
+        } catch (InterruptedException interruptedException) {
+            for (Future<T> future : futures) future.cancel(true);
+            throw interruptedException;
+        }
+        return futures;
+    }
+
+    /**
+     * Runs a single task, counting it while it runs.
+     * @param task   task to be run
+     * @param trial  whether the task is a trial, which holds a CPU permit in virtual thread mode
+     */
+    private <T> T runTask(Callable<T> task, boolean trial) throws Exception {
+        boolean permitted = trial && permits != null;
+        if (permitted) permits.acquire();
+        running.incrementAndGet();
+        try {
+            return task.call();
+        } finally {
+            running.decrementAndGet();
+            completed.incrementAndGet();
+            if (permitted) permits.release();
+        }
+    }
+
+    /**
+     * Returns how tasks are run.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the number of worker threads or CPU permits tasks are run on.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns an estimate of the number of tasks waiting to be run.
+     * In virtual thread mode these are the tasks waiting for a permit.
+     */
+    public long getQueueDepth() {
+        if (permits != null) return permits.getQueueLength();
+        ForkJoinPool pool = (ForkJoinPool) executor;
+        return pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount();
+    }
+
+    /**
+     * Returns an estimate of the number of workers currently running tasks.
+     */
+    public int getActiveWorkerCount() {
+        if (permits != null) return running.get();
+        return ((ForkJoinPool) executor).getActiveThreadCount();
+    }
+
+    /**
+     * Returns the number of worker threads that currently exist.
+     * In virtual thread mode this is the number of tasks in flight.
+     */
+    public int getWorkerCount() {
+        if (permits != null) return (int) (submitted.get() - completed.get());
+        return ((ForkJoinPool) executor).getPoolSize();
+    }
+
+    /**
+     * Returns the number of tasks ever submitted to this scheduler.
+     */
+    public long getSubmittedTaskCount() {
+        return submitted.get();
+    }
+
+    /**
+     * Returns the number of tasks that have finished running.
+     */
+    public long getCompletedTaskCount() {
+        return completed.get();
+    }
+
+    /**
+     * Stops accepting new tasks once the submitted tasks have finished.
+     * The shared scheduler cannot be shut down.
+     * @throws IllegalStateException  if called on the shared scheduler
+     */
+    public void shutdown() throws IllegalStateException {
+        if (this == SHARED)
+            throw new IllegalStateException("The shared scheduler cannot be shut down.");
+        executor.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TrialScheduler{mode=%s, parallelism=%d, workers=%d, active=%d, " +
+                "queued=%d, completed=%d/%d}", mode, getParallelism(), getWorkerCount(),
+                getActiveWorkerCount(), getQueueDepth(), getCompletedTaskCount(), getSubmittedTaskCount());
+    }
+}
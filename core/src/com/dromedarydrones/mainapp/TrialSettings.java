@@ -0,0 +1,215 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.xml.XmlSerializable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Settings controlling how many trials a simulation runs.
+ * <p>
+ * In fixed mode exactly {@link #getTrialCount()} trials are run. In adaptive
+ * mode trials are run in batches until the 95% confidence intervals of the
+ * average and worst wait times of every packing algorithm are no wider than
+ * {@link #getConfidenceWidth()}, or until either {@link #getMaxTrials()}
+ * trials were run or {@link #getTimeBudget()} seconds have passed.
+ */
+public class TrialSettings implements XmlSerializable {
+
+    public static final int DEFAULT_TRIAL_COUNT = 50;           // trials run in fixed mode
+    public static final boolean DEFAULT_ADAPTIVE = false;       // fixed number of trials
+    public static final int DEFAULT_BATCH_SIZE = 10;            // trials run per adaptive batch
+    public static final double DEFAULT_CONFIDENCE_WIDTH = 30;   // 30 seconds
+    public static final int DEFAULT_MAX_TRIALS = 1000;          // upper bound of adaptive trials
+    public static final double DEFAULT_TIME_BUDGET = 5 * 60;    // 5 minutes
+
+    private int trialCount;             // number of trials in fixed mode
+    private boolean adaptive;           // whether to stop once the results converge
+    private int batchSize;              // trials run per batch in adaptive mode
+    private double confidenceWidth;     // max width in seconds of the 95% confidence intervals
+    private int maxTrials;              // max number of trials in adaptive mode
+    private double timeBudget;          // max seconds spent running adaptive batches
+
+    /**
+     * Default constructor that initializes the default settings.
+     * <pre>
+     * trial count      = 50
+     * adaptive         = false
+     * batch size       = 10
+     * confidence width = 30 seconds
+     * max trials       = 1000
+     * time budget      = 5 minutes
+     * </pre>
+     */
+    public TrialSettings() {
+        trialCount = DEFAULT_TRIAL_COUNT;
+        adaptive = DEFAULT_ADAPTIVE;
+        batchSize = DEFAULT_BATCH_SIZE;
+        confidenceWidth = DEFAULT_CONFIDENCE_WIDTH;
+        maxTrials = DEFAULT_MAX_TRIALS;
+        timeBudget = DEFAULT_TIME_BUDGET;
+    }
+
+    /**
+     * Copy constructor that creates a deep copy of existing trial settings.
+     * @param other  the other instance to be cloned
+     */
+    public TrialSettings(TrialSettings other) {
+        this.trialCount = other.trialCount;
+        this.adaptive = other.adaptive;
+        this.batchSize = other.batchSize;
+        this.confidenceWidth = other.confidenceWidth;
+        this.maxTrials = other.maxTrials;
+        this.timeBudget = other.timeBudget;
+    }
+
+    /**
+     * Initialize trial settings from an XML object.
+     * @param root  xml element containing trial settings
+     */
+    public TrialSettings(Element root) {
+        this();
+
+        if (root.hasAttribute("count"))
+            setTrialCount(Integer.parseInt(root.getAttribute("count")));
+
+        if (root.hasAttribute("adaptive"))
+            adaptive = Boolean.parseBoolean(root.getAttribute("adaptive"));
+
+        if (root.hasAttribute("batch_size"))
+            setBatchSize(Integer.parseInt(root.getAttribute("batch_size")));
+
+        if (root.hasAttribute("confidence_width"))
+            setConfidenceWidth(Double.parseDouble(root.getAttribute("confidence_width")));
+
+        if (root.hasAttribute("max_trials"))
+            setMaxTrials(Integer.parseInt(root.getAttribute("max_trials")));
+
+        if (root.hasAttribute("time_budget"))
+            setTimeBudget(Double.parseDouble(root.getAttribute("time_budget")));
+    }
+
+    /**
+     * Returns the number of trials run in fixed mode.
+     */
+    public int getTrialCount() {
+        return trialCount;
+    }
+
+    /**
+     * Sets the number of trials run in fixed mode.
+     * @param count  number of trials
+     */
+    public void setTrialCount(int count) throws IllegalArgumentException {
+        if (count < 1)
+            throw new IllegalArgumentException("Trial count must be at least 1.");
+
+        trialCount = count;
+    }
+
+    /**
+     * Returns {@code true} if trials are run until the results converge.
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Specifies whether trials are run until the results converge
+     * instead of running a fixed number of trials.
+     * @param adaptive  {@code true} to enable adaptive mode
+     */
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Returns the number of trials run per batch in adaptive mode.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of trials run per batch in adaptive mode.
+     * At least two trials are needed to estimate a confidence interval.
+     * @param size  number of trials per batch
+     */
+    public void setBatchSize(int size) throws IllegalArgumentException {
+        if (size < 2)
+            throw new IllegalArgumentException("Batch size must be at least 2.");
+
+        batchSize = size;
+    }
+
+    /**
+     * Returns the max width in seconds of the 95% confidence intervals in adaptive mode.
+     */
+    public double getConfidenceWidth() {
+        return confidenceWidth;
+    }
+
+    /**
+     * Sets the max width in seconds of the 95% confidence intervals in adaptive mode.
+     * @param width  interval width in seconds
+     */
+    public void setConfidenceWidth(double width) throws IllegalArgumentException {
+        if (width <= 0)
+            throw new IllegalArgumentException("Confidence width must be positive.");
+
+        confidenceWidth = width;
+    }
+
+    /**
+     * Returns the max number of trials run in adaptive mode.
+     */
+    public int getMaxTrials() {
+        return maxTrials;
+    }
+
+    /**
+     * Sets the max number of trials run in adaptive mode.
+     * @param count  max number of trials
+     */
+    public void setMaxTrials(int count) throws IllegalArgumentException {
+        if (count < 1)
+            throw new IllegalArgumentException("Max trials must be at least 1.");
+
+        maxTrials = count;
+    }
+
+    /**
+     * Returns the max time in seconds spent running trials in adaptive mode.
+     */
+    public double getTimeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * Sets the max time in seconds spent running trials in adaptive mode.
+     * Running batches are always finished, so the budget may be exceeded by one batch.
+     * @param seconds  time budget in seconds
+     */
+    public void setTimeBudget(double seconds) throws IllegalArgumentException {
+        if (seconds <= 0)
+            throw new IllegalArgumentException("Time budget must be positive.");
+
+        timeBudget = seconds;
+    }
+
+    /**
+     * Builds the XML element representing these trial settings.
+     * @param document  XML document
+     * @return  XML element
+     */
+    @Override
+    public Element toXml(Document document) {
+        Element root = document.createElement("trials");
+        root.setAttribute("count", String.valueOf(trialCount));
+        root.setAttribute("adaptive", String.valueOf(adaptive));
+        root.setAttribute("batch_size", String.valueOf(batchSize));
+        root.setAttribute("confidence_width", String.valueOf(confidenceWidth));
+        root.setAttribute("max_trials", String.valueOf(maxTrials));
+        root.setAttribute("time_budget", String.valueOf(timeBudget));
+        return root;
+    }
+}
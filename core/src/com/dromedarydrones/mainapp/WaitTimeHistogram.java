@@ -0,0 +1,140 @@
+package com.dromedarydrones.mainapp;
+
+import java.util.Arrays;
+
+/**
+ * Compact, mergeable histogram of wait times for estimating percentiles,
+ * laid out like an HDR histogram. Wait times below {@value #LINEAR_LIMIT}
+ * seconds are counted in one second buckets. Above that every power of two
+ * is split into {@value #SUB_BUCKETS} equal buckets, so a reported percentile
+ * is within half a bucket of the exact value: half a second for short waits
+ * and under 0.8% for long ones. Buckets are allocated up to the longest wait
+ * recorded, which for waits of a few hours is about 600 counters.
+ */
+public class WaitTimeHistogram {
+
+    private static final int SUB_BUCKETS = 64;                  // buckets per power of two
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;    // waits counted in one second buckets
+    private static final int LINEAR_BITS = 7;                   // log2 of the linear limit
+    private static final int MAX_BITS = 40;                     // waits beyond 2^40 seconds share a bucket
+
+    private long[] counts;      // number of wait times in each bucket
+    private long count;         // total number of wait times added
+    private double minimum;     // shortest wait time added
+    private double maximum;     // longest wait time added
+
+    /**
+     * Creates an empty histogram.
+     */
+    public WaitTimeHistogram() {
+        counts = new long[LINEAR_LIMIT];
+        count = 0;
+        minimum = 0;
+        maximum = 0;
+    }
+
+    /**
+     * Copy constructor that creates a copy of an existing histogram.
+     * @param other  the other instance to be cloned
+     */
+    public WaitTimeHistogram(WaitTimeHistogram other) {
+        this.counts = other.counts.clone();
+        this.count = other.count;
+        this.minimum = other.minimum;
+        this.maximum = other.maximum;
+    }
+
+    /**
+     * Adds a wait time to the histogram.
+     * @param waitTime  wait time in seconds, negative times are counted as zero
+     */
+    public void add(double waitTime) {
+        double value = Math.max(waitTime, 0);
+        int index = indexOf(value);
+        if (index >= counts.length)
+            counts = Arrays.copyOf(counts, index + SUB_BUCKETS);
+        counts[index]++;
+
+        if (count == 0 || value < minimum) minimum = value;
+        if (count == 0 || value > maximum) maximum = value;
+        count++;
+    }
+
+    /**
+     * Adds all the wait times counted by another histogram to this one.
+     * @param other  histogram to merge into this one
+     */
+    public void merge(WaitTimeHistogram other) throws IllegalArgumentException {
+        if (other == null)
+            throw new IllegalArgumentException("Histogram cannot be null.");
+
+        if (other.count == 0) return;
+        if (other.counts.length > counts.length)
+            counts = Arrays.copyOf(counts, other.counts.length);
+        for (int index = 0; index < other.counts.length; index++)
+            counts[index] += other.counts[index];
+
+        minimum = count == 0 ? other.minimum : Math.min(minimum, other.minimum);
+        maximum = count == 0 ? other.maximum : Math.max(maximum, other.maximum);
+        count += other.count;
+    }
+
+    /**
+     * Returns the number of wait times added.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the estimated wait time at or below which the given
+     * percent of all wait times fall, or 0 if the histogram is empty.
+     * @param percentile  percentile between 0 and 100, such as 99.9
+     * @return  wait time in seconds
+     */
+    public double getValueAtPercentile(double percentile) throws IllegalArgumentException {
+        if (percentile < 0 || percentile > 100 || Double.isNaN(percentile))
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+
+        if (count == 0) return 0;
+        if (percentile == 0) return minimum;
+        if (percentile == 100) return maximum;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int index = 0; index < counts.length; index++) {
+            seen += counts[index];
+            if (seen >= rank) {
+                double value = (lowerBound(index) + lowerBound(index + 1)) / 2;
+                return Math.min(Math.max(value, minimum), maximum);
+            }
+        }
+        return maximum;
+    }
+
+    /**
+     * Returns the bucket a wait time is counted in.
+     */
+    private static int indexOf(double waitTime) {
+        long seconds = (long) Math.min(waitTime, (double) (1L << MAX_BITS) - 1);
+        if (seconds < LINEAR_LIMIT) return (int) seconds;
+
+        int magnitude = 63 - Long.numberOfLeadingZeros(seconds);   // at least LINEAR_BITS
+        int shift = magnitude - LINEAR_BITS + 1;
+        int subBucket = (int) (seconds >> shift) - SUB_BUCKETS;     // between 0 and SUB_BUCKETS - 1
+        return LINEAR_LIMIT + (magnitude - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the shortest wait time counted in a bucket.
+     */
+    private static double lowerBound(int index) {
+        if (index < LINEAR_LIMIT) return index;
+
+        int offset = index - LINEAR_LIMIT;
+        int magnitude = offset / SUB_BUCKETS + LINEAR_BITS;
+        int subBucket = offset % SUB_BUCKETS;
+        int shift = magnitude - LINEAR_BITS + 1;
+        return (double) ((long) (SUB_BUCKETS + subBucket) << shift);
+    }
+}
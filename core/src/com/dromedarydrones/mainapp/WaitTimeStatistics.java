@@ -0,0 +1,172 @@
+package com.dromedarydrones.mainapp;
+
+/**
+ * Constant memory accumulator of order wait times. Wait times are pushed
+ * in as orders are delivered and the count, mean, variance, worst time,
+ * number of expired orders and a {@link WaitTimeHistogram} for percentiles
+ * are tracked without keeping the orders around. Accumulators of separate
+ * trials can be merged into an overall one.
+ * <p>
+ * The variance is maintained with Welford's online algorithm and
+ * merged with the parallel variant by Chan, Golub and LeVeque.
+ */
+public class WaitTimeStatistics {
+
+    /** wait time in seconds after which an order has expired and must be remade */
+    public static final double EXPIRATION_TIME = 60 * 60 * 2;   // 60 seconds * 60 minutes * 2 hours
+
+    private long count;         // number of wait times added
+    private double sum;         // sum of all wait times
+    private double mean;        // running mean used to update the squared deviations
+    private double squares;     // sum of squared deviations from the mean
+    private double worst;       // longest wait time
+    private long expired;       // number of wait times exceeding the expiration time
+    private final WaitTimeHistogram histogram;  // distribution of the wait times
+
+    /**
+     * Creates an empty accumulator.
+     */
+    public WaitTimeStatistics() {
+        count = 0;
+        sum = 0;
+        mean = 0;
+        squares = 0;
+        worst = 0;
+        expired = 0;
+        histogram = new WaitTimeHistogram();
+    }
+
+    /**
+     * Copy constructor that creates a copy of an existing accumulator.
+     * @param other  the other instance to be cloned
+     */
+    public WaitTimeStatistics(WaitTimeStatistics other) {
+        this.count = other.count;
+        this.sum = other.sum;
+        this.mean = other.mean;
+        this.squares = other.squares;
+        this.worst = other.worst;
+        this.expired = other.expired;
+        this.histogram = new WaitTimeHistogram(other.histogram);
+    }
+
+    /**
+     * Adds the wait time of a delivered order.
+     * @param waitTime  wait time in seconds
+     */
+    public void add(double waitTime) {
+        count++;
+        sum += waitTime;
+        double delta = waitTime - mean;
+        mean += delta / count;
+        squares += delta * (waitTime - mean);
+        if (count == 1 || waitTime > worst) worst = waitTime;
+        if (waitTime > EXPIRATION_TIME) expired++;
+        histogram.add(waitTime);
+    }
+
+    /**
+     * Adds all the wait times tracked by another accumulator to this one.
+     * @param other  accumulator to merge into this one
+     */
+    public void merge(WaitTimeStatistics other) throws IllegalArgumentException {
+        if (other == null)
+            throw new IllegalArgumentException("Statistics cannot be null.");
+
+        if (other.count == 0) return;
+        histogram.merge(other.histogram);
+        if (count == 0) {
+            count = other.count;
+            sum = other.sum;
+            mean = other.mean;
+            squares = other.squares;
+            worst = other.worst;
+            expired = other.expired;
+            return;
+        }
+
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        squares += other.squares + delta * delta * count * other.count / total;
+        mean += delta * other.count / total;
+        sum += other.sum;
+        count = total;
+        worst = Math.max(worst, other.worst);
+        expired += other.expired;
+    }
+
+    /**
+     * Returns the number of wait times added.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the average wait time in seconds or 0 if none were added.
+     */
+    public double getAverage() {
+        return count > 0 ? sum / count : 0;
+    }
+
+    /**
+     * Returns the sample variance of the wait times or 0 if fewer than two were added.
+     */
+    public double getVariance() {
+        return count > 1 ? squares / (count - 1) : 0;
+    }
+
+    /**
+     * Returns the sample standard deviation of the wait times in seconds.
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Returns the worst wait time in seconds or 0 if none were added.
+     */
+    public double getWorst() {
+        return worst;
+    }
+
+    /**
+     * Returns the number of wait times exceeding the {@link #EXPIRATION_TIME}.
+     */
+    public long getExpiredCount() {
+        return expired;
+    }
+
+    /**
+     * Returns the fraction of wait times exceeding the {@link #EXPIRATION_TIME}.
+     * <br>
+     * A return value of 0.15 represents 15%
+     */
+    public double getPercentExpired() {
+        return count > 0 ? (double) expired / count : 0;
+    }
+
+    /**
+     * Returns the estimated wait time at or below which the given
+     * percent of all wait times fall, or 0 if none were added.
+     * @param percentile  percentile between 0 and 100, such as 99.9
+     * @return  wait time in seconds
+     * @see WaitTimeHistogram#getValueAtPercentile(double)
+     */
+    public double getPercentile(double percentile) throws IllegalArgumentException {
+        return histogram.getValueAtPercentile(percentile);
+    }
+
+    /**
+     * Returns the histogram of the wait times.
+     */
+    public WaitTimeHistogram getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WaitTimeStatistics{count=%d, average=%.2f, deviation=%.2f, worst=%.2f, expired=%d}",
+                count, getAverage(), getStandardDeviation(), worst, expired);
+    }
+}
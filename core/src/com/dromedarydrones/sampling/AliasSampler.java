@@ -0,0 +1,125 @@
+package com.dromedarydrones.sampling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Immutable sampler drawing items with probabilities proportional to their
+ * weights in constant time, using the alias method of Walker with Vose's
+ * construction.
+ * <p>
+ * The weights are normalized once when the sampler is built, after which
+ * every item is split over columns of equal probability that hold at most
+ * two items. A draw picks a column and one of its items with a single random
+ * double and allocates nothing.
+ * @param <T>  type of the items
+ */
+public final class AliasSampler<T> {
+
+    private final List<T> items;        // items in the order they were given
+    private final double[] keep;        // probability a column draws its own item rather than its alias
+    private final int[] alias;          // index of the item sharing each column
+
+    /**
+     * Builds a sampler of items with the given weights.
+     * @param items   items to draw from
+     * @param weight  non-negative weight of an item, which need not be normalized
+     * @throws IllegalArgumentException  if there are no items, a weight is negative
+     *                                   or not finite, or the weights sum to zero
+     */
+    public AliasSampler(List<? extends T> items, ToDoubleFunction<? super T> weight)
+            throws IllegalArgumentException {
+        if (items == null || items.isEmpty())
+            throw new IllegalArgumentException("Items cannot be null or empty.");
+        if (weight == null)
+            throw new IllegalArgumentException("Weight function cannot be null.");
+
+        int count = items.size();
+        this.items = new ArrayList<>(items);
+        double[] scaled = new double[count];
+        double total = 0;
+        for (int index = 0; index < count; index++) {
+            double itemWeight = weight.applyAsDouble(this.items.get(index));
+            if (!(itemWeight >= 0) || Double.isInfinite(itemWeight))
+                throw new IllegalArgumentException("Weights must be finite and non-negative.");
+            scaled[index] = itemWeight;
+            total += itemWeight;
+        }
+        if (!(total > 0) || Double.isInfinite(total))
+            throw new IllegalArgumentException("Weights must have a positive finite sum.");
+
+        // scale the weights so the average column holds exactly 1
+        int[] small = new int[count], large = new int[count];
+        int smallCount = 0, largeCount = 0;
+        for (int index = 0; index < count; index++) {
+            scaled[index] *= count / total;
+            if (scaled[index] < 1) small[smallCount++] = index;
+            else large[largeCount++] = index;
+        }
+
+        // fill each column short of 1 with the rest of an item over 1
+        keep = new double[count];
+        alias = new int[count];
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount], more = large[largeCount - 1];
+            keep[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] -= 1 - scaled[less];
+            if (scaled[more] < 1) {
+                largeCount--;
+                small[smallCount++] = more;
+            }
+        }
+
+        // whatever remains is 1 up to rounding errors
+        while (largeCount > 0) keep[large[--largeCount]] = 1;
+        while (smallCount > 0) keep[small[--smallCount]] = 1;
+    }
+
+    /**
+     * Draws an item.
+     * @param random  random number generator, of which one double is drawn
+     */
+    public T sample(SplittableRandom random) {
+        return items.get(sampleIndex(random));
+    }
+
+    /**
+     * Draws the index of an item, for callers keeping items in arrays of their own.
+     * @param random  random number generator, of which one double is drawn
+     * @return  index of the item in the order given
+     */
+    public int sampleIndex(SplittableRandom random) {
+        double scaled = random.nextDouble() * keep.length;
+        int column = Math.min((int) scaled, keep.length - 1);
+        return scaled - column < keep[column] ? column : alias[column];
+    }
+
+    /**
+     * Returns the item at an index.
+     * @param index  index of the item in the order given
+     */
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    /**
+     * Returns the number of items.
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Returns the probability of drawing the item at an index.
+     * @param index  index of the item in the order given
+     */
+    public double getProbability(int index) {
+        double probability = keep[index];
+        for (int column = 0; column < keep.length; column++)
+            if (alias[column] == index && column != index) probability += 1 - keep[column];
+        return probability / keep.length;
+    }
+}
@@ -0,0 +1,60 @@
+package com.dromedarydrones.food;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class FrozenMealTests {
+
+    private FoodItem fries;
+    private Meal meal;
+    private FrozenMeal frozen;
+
+    @Before
+    public void setUp() {
+        fries = new FoodItem("Fries", 4.0);
+        meal = new Meal(Arrays.asList(new FoodItem("Burger", 6.0), fries), "Combo", 0.5);
+        frozen = new FrozenMeal(meal);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullMeal(){
+        new FrozenMeal(null);
+    }
+
+    @Test
+    public void testCopiesMeal(){
+        assertEquals("Incorrect name.", "Combo", frozen.getName());
+        assertEquals("Incorrect probability.", 0.5, frozen.getProbability(), 0.0);
+        assertEquals("Incorrect weight.", 10.0, frozen.getTotalWeight(), 0.0);
+        assertEquals("Incorrect foods.", meal.getFoods(), frozen.getFoods());
+        assertFalse("Foods not copied.", frozen.getFoods().get(1) == fries);
+    }
+
+    @Test
+    public void testIgnoresEditsOfOriginal(){
+        fries.setWeight(8.0);
+        meal.addItem(new FoodItem("Soda", 12.0));
+        assertEquals("Frozen weight changed.", 10.0, frozen.getTotalWeight(), 0.0);
+        assertEquals("Frozen foods changed.", 2, frozen.getFoods().size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testAddItem(){
+        frozen.addItem(new FoodItem("Soda", 12.0));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSetName(){
+        frozen.setName("Meal");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSetFoodWeight(){
+        frozen.getFoods().get(0).setWeight(1.0);
+    }
+}
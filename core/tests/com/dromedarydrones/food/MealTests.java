@@ -58,4 +58,30 @@ public class MealTests {
         meal.addItem(null);
     }
 
+    @Test
+    public void testWeightFollowsAddedAndRemovedItems(){
+        FoodItem burger = new FoodItem("Burger", 6.0);
+        FoodItem fries = new FoodItem("Fries", 4.0);
+        meal.addItem(burger);
+        assertEquals("Incorrect weight after adding.", 6.0, meal.getTotalWeight(), 0.0);
+        meal.addItem(fries);
+        assertEquals("Incorrect weight after adding.", 10.0, meal.getTotalWeight(), 0.0);
+        meal.removeItem(burger);
+        assertEquals("Incorrect weight after removing.", 4.0, meal.getTotalWeight(), 0.0);
+    }
+
+    @Test
+    public void testWeightFollowsFoodWeight(){
+        FoodItem fries = new FoodItem("Fries", 4.0);
+        meal.addItem(fries);
+        assertEquals("Incorrect weight.", 4.0, meal.getTotalWeight(), 0.0);
+        fries.setWeight(5.0);
+        assertEquals("Weight not updated after food weight changed.", 5.0, meal.getTotalWeight(), 0.0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testFoodListIsReadOnly(){
+        meal.getFoods().add(new FoodItem("Fries", 4.0));
+    }
+
 }
@@ -0,0 +1,47 @@
+package com.dromedarydrones.location;
+
+import com.dromedarydrones.sampling.AliasSampler;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+public class DeliveryPointsTest {
+    private DeliveryPoints deliveryPoints;
+
+    @Before
+    public void setUp(){
+        deliveryPoints = new DeliveryPoints();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullObjectInCopyConstructor(){
+        DeliveryPoints dp = null;
+        new DeliveryPoints(dp);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullPointName(){
+        deliveryPoints.addPoint(null,0,0);
+    }
+
+    @Test
+    public void testDemandSamplerSkipsPointsWithoutDemand(){
+        for (Point point : deliveryPoints) point.setDemand(0);
+        Point union = deliveryPoints.getPoints().get(0);
+        union.setDemand(3);
+
+        AliasSampler<Point> sampler = deliveryPoints.createDemandSampler();
+        SplittableRandom random = new SplittableRandom(1);
+        for (int draw = 0; draw < 100; draw++)
+            assertEquals(union, sampler.sample(random));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDemandSamplerWithoutDemand(){
+        for (Point point : deliveryPoints) point.setDemand(0);
+        deliveryPoints.createDemandSampler();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.dromedarydrones.location;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DistanceMatrixTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullPoints() {
+        new DistanceMatrix((DeliveryPoints) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownPoint() {
+        new DistanceMatrix(List.of(new Point("One", 1, 1))).getId(new Point("Two", 2, 2));
+    }
+
+    @Test
+    public void testMatchesPointDistances() {
+        DeliveryPoints deliveryPoints = new DeliveryPoints();
+        DistanceMatrix distances = new DistanceMatrix(deliveryPoints);
+        assertEquals(deliveryPoints.getPoints().size() + 1, distances.size());
+
+        for (Point from : deliveryPoints) {
+            assertEquals(from.distanceFromPoint(null), distances.getDistance(null, from), 0);
+            for (Point to : deliveryPoints)
+                if (!from.equals(to))
+                    assertEquals(from.distanceFromPoint(to), distances.getDistance(from, to), 0);
+        }
+    }
+
+    @Test
+    public void testDuplicatePointsShareId() {
+        Point point = new Point("One", 1, 1);
+        DistanceMatrix distances = new DistanceMatrix(List.of(point, new Point(point)));
+        assertEquals(2, distances.size());
+        assertEquals(1, distances.getId(new Point(point)));
+    }
+
+    @Test
+    public void testLargeMatrixComputesDistances() {
+        SplittableRandom random = new SplittableRandom(5);
+        List<Point> points = new ArrayList<>();
+        for (int index = 0; index < DistanceMatrix.MAX_STORED_SIZE; index++)
+            points.add(new Point("P" + index, random.nextInt(-10000, 10000), random.nextInt(-10000, 10000)));
+        DistanceMatrix distances = new DistanceMatrix(points);
+        assertFalse(distances.isStored());
+
+        for (int index = 0; index < points.size(); index += 97) {
+            Point from = points.get(index), to = points.get(points.size() - 1 - index);
+            assertEquals(from.distanceFromPoint(null), distances.getDistance(null, from), 0);
+            assertEquals(from.distanceFromPoint(to), distances.getDistance(from, to), 0);
+        }
+        Route route = new RoutePlanner(distances).plan(points.subList(0, 200), random);
+        assertTrue(route.getLength() > 0);
+    }
+}
@@ -0,0 +1,99 @@
+package com.dromedarydrones.location;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LocalSearchTest {
+
+    private DistanceMatrix distances;
+    private int[] ids;
+
+    @Before
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(11);
+        List<Point> points = new LinkedList<>();
+        for (int index = 0; index < 40; index++)
+            points.add(new Point("P" + index, random.nextInt(-4000, 4000), random.nextInt(-4000, 4000)));
+        distances = new DistanceMatrix(points);
+        ids = new int[points.size()];
+        for (int index = 0; index < ids.length; index++)
+            ids[index] = index + 1;
+    }
+
+    @Test
+    public void testVisitsEveryPoint() {
+        int[] route = LocalSearch.improve(ids.clone(), distances);
+        int[] sorted = route.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(ids, sorted);
+    }
+
+    @Test
+    public void testShorterThanAnnealing() {
+        LinkedList<Point> points = new LinkedList<>();
+        for (int id : ids)
+            points.add(distances.getPoint(id));
+        RoutingSettings settings = new RoutingSettings();
+        settings.setAlgorithm(RoutingSettings.Algorithm.LOCAL_SEARCH);
+        Route localSearch = new Route(new LinkedList<>(points), distances, new SplittableRandom(1), settings);
+        Route annealing = new Route(new LinkedList<>(points), distances, new SplittableRandom(1));
+
+        assertTrue(length(localSearch.getRoute()) <= length(annealing.getRoute()));
+        assertTrue(length(localSearch.getRoute()) <= length(points));
+    }
+
+    @Test
+    public void testVisitsEveryPointOfPartOfMatrix() {
+        int[] part = new int[ids.length / 4];
+        for (int index = 0; index < part.length; index++)
+            part[index] = ids[index * 4];
+        int[] route = LocalSearch.improve(part.clone(), distances);
+        int[] sorted = route.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(part, sorted);
+    }
+
+    @Test
+    public void testSameRouteInLargerMatrix() {
+        // the route holds too few of the larger matrix's points to take its neighbors from its lists
+        int[] part = Arrays.copyOf(ids, 10);
+        List<Point> points = new LinkedList<>();
+        for (int index = 0; index < 20 * distances.size(); index++)
+            points.add(new Point("Q" + index, 5000 + index, -5000 - index));
+        for (int id : part)
+            points.add(distances.getPoint(id));
+        DistanceMatrix larger = new DistanceMatrix(points);
+        int[] partOfLarger = new int[part.length];
+        for (int index = 0; index < part.length; index++)
+            partOfLarger[index] = larger.getId(distances.getPoint(part[index]));
+
+        int[] route = LocalSearch.improve(part.clone(), distances);
+        int[] routeOfLarger = LocalSearch.improve(partOfLarger, larger);
+        for (int index = 0; index < route.length; index++)
+            assertSame(distances.getPoint(route[index]), larger.getPoint(routeOfLarger[index]));
+    }
+
+    @Test
+    public void testDeterministic() {
+        assertArrayEquals(LocalSearch.improve(ids.clone(), distances), LocalSearch.improve(ids.clone(), distances));
+    }
+
+    private double length(List<Point> route) {
+        double length = 0;
+        Point previous = null;
+        for (Point point : route) {
+            length += distances.getDistance(previous, point);
+            previous = point;
+        }
+        return length + distances.getDistance(previous, null);
+    }
+}
@@ -1,7 +1,9 @@
 package com.dromedarydrones.location;
 
+import com.dromedarydrones.xml.XmlFactory;
 import org.junit.Before;
 import org.junit.Test;
+import org.w3c.dom.Document;
 
 import static org.junit.Assert.assertEquals;
 
@@ -61,4 +63,24 @@ public class PointTest {
         point.setCoordinates(",,,,,,1,2");
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void testDefaultDemand(){
+        assertEquals(Point.DEFAULT_DEMAND, point.getDemand(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeDemand(){
+        point.setDemand(-1);
+    }
+
+    @Test
+    public void testDemandXmlRoundTrip(){
+        point.setDemand(2.5);
+        Document document = XmlFactory.fromXmlString(XmlFactory.toXmlString(point));
+        Point copy = new Point(document.getDocumentElement());
+
+        assertEquals(2.5, copy.getDemand(), 0);
+        assertEquals(point, copy);
+    }
+}
@@ -0,0 +1,81 @@
+package com.dromedarydrones.location;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+public class RouteCacheTest {
+
+    private DistanceMatrix distances;
+    private List<Point> points;
+
+    @Before
+    public void setUp() {
+        points = new DeliveryPoints().getPoints();
+        distances = new DistanceMatrix(points);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroCapacity() {
+        new RouteCache(0);
+    }
+
+    @Test
+    public void testKeyIgnoresOrder() {
+        assertEquals(RouteCache.keyOf(new int[]{3, 70, 1}), RouteCache.keyOf(new int[]{70, 1, 3}));
+    }
+
+    @Test
+    public void testRepeatedSetHits() {
+        RouteCache cache = new RouteCache(8);
+        RoutePlanner planner = new RoutePlanner(distances, new RoutingSettings(), cache);
+        Route first = planner.plan(points.subList(0, 4), new SplittableRandom(1));
+        Route second = planner.plan(Arrays.asList(points.get(3), points.get(1), points.get(0), points.get(2)),
+                new SplittableRandom(2));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(first.getRoute(), second.getRoute());
+        assertEquals(first.getLength(), second.getLength(), 0);
+    }
+
+    @Test
+    public void testCachedRouteMatchesUncached() {
+        RoutePlanner cached = new RoutePlanner(distances, new RoutingSettings(), new RouteCache(8));
+        RoutePlanner uncached = new RoutePlanner(distances);
+        List<Point> stops = Arrays.asList(points.get(5), points.get(2), points.get(7));
+        cached.plan(stops, new SplittableRandom(1));
+
+        assertEquals(uncached.plan(stops, new SplittableRandom(1)).getRoute(),
+                cached.plan(stops, new SplittableRandom(1)).getRoute());
+    }
+
+    @Test
+    public void testOldestRoutesEvicted() {
+        RouteCache cache = new RouteCache(2);
+        RoutePlanner planner = new RoutePlanner(distances, new RoutingSettings(), cache);
+        for (int index = 0; index < 4; index++)
+            planner.plan(points.subList(index, index + 2), new SplittableRandom(1));
+
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getEvictions());
+        planner.plan(points.subList(3, 5), new SplittableRandom(1));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testAnnealedRoutesNotCached() {
+        RoutingSettings settings = new RoutingSettings();
+        settings.setExactLimit(2);
+        RouteCache cache = new RouteCache(8);
+        new RoutePlanner(distances, settings, cache).plan(points.subList(0, 5), new SplittableRandom(1));
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMisses());
+    }
+}
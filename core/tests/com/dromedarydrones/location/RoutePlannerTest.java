@@ -0,0 +1,79 @@
+package com.dromedarydrones.location;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RoutePlannerTest {
+
+    private static final long BUDGET = 2_000_000;   // nanoseconds allowed for planning a large route
+    private static final long SLACK = 500_000;      // nanoseconds planning a large route may overrun
+
+    private RoutePlanner planner;
+    private List<Point> points;
+
+    @Before
+    public void setUp() {
+        DeliveryPoints deliveryPoints = new DeliveryPoints();
+        points = deliveryPoints.getPoints();
+        planner = new RoutePlanner(new DistanceMatrix(deliveryPoints));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroBudget() {
+        planner.planWithin(points, 0);
+    }
+
+    @Test
+    public void testGenerousBudgetImproves() {
+        AnytimeRoute anytime = planner.planWithin(points, 1_000_000_000L);
+
+        assertEquals(new HashSet<>(points), new HashSet<>(anytime.getRoute().getRoute()));
+        assertTrue(anytime.getImprovement() > 0);
+        assertEquals(anytime.getInitialLength() - anytime.getImprovement(), anytime.getRoute().getLength(), 1e-6);
+        assertTrue(anytime.getBudgetUsed() < 1);
+    }
+
+    @Test
+    public void testExhaustedBudgetKeepsInitialOrder() {
+        AnytimeRoute anytime = planner.planWithin(points, 1);
+
+        assertEquals(points, anytime.getRoute().getRoute());
+        assertEquals(0, anytime.getImprovement(), 0);
+    }
+
+    @Test
+    public void testShortRouteSolvedExactly() {
+        List<Point> stops = points.subList(0, 6);
+        Route exact = planner.plan(stops, new SplittableRandom(1));
+
+        assertEquals(exact.getLength(), planner.planWithin(stops, 1_000_000_000L).getRoute().getLength(), 1e-6);
+    }
+
+    @Test
+    public void testLargeRouteStaysWithinBudget() {
+        SplittableRandom random = new SplittableRandom(3);
+        List<Point> stops = new ArrayList<>();
+        for (int index = 0; index < 2000; index++)
+            stops.add(new Point("P" + index, random.nextInt(-10000, 10000), random.nextInt(-10000, 10000)));
+        RoutePlanner large = new RoutePlanner(new DistanceMatrix(stops));
+
+        // warm up until the compiler threads no longer compete for the processor
+        // and take the median, which leaves out pauses of the JVM
+        long[] elapsed = new long[21];
+        for (int run = -500; run < elapsed.length; run++) {
+            AnytimeRoute anytime = large.planWithin(stops, BUDGET);
+            if (run >= 0) elapsed[run] = anytime.getElapsedNanos();
+        }
+        Arrays.sort(elapsed);
+        assertTrue(elapsed[elapsed.length / 2] <= BUDGET + SLACK);
+    }
+}
@@ -0,0 +1,115 @@
+package com.dromedarydrones.location;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+public class RouteTest {
+
+    private Route route;
+    private LinkedList<Point> points;
+
+    @Before
+    public void setUp() {
+        //Point origin = new Point("Origin", 0, 0);
+        Point one = new Point("One", 1, 1);
+
+        points = new LinkedList<>();
+        //points.add(origin);
+        points.add(one);
+        route = new Route(points);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullPointListInConstructor(){
+        new Route(null);
+    }
+
+    @Test
+    public void testCalculateRouteDFS() {
+        LinkedList<Point> copy = new LinkedList<>(points);
+        assertEquals(route.getRoute(), copy);
+    }
+
+    @Test
+    public void testLongRouteVisitsEveryPoint() {
+        DeliveryPoints deliveryPoints = new DeliveryPoints();
+        LinkedList<Point> longRoute = new LinkedList<>(deliveryPoints.getPoints());
+        Route route = new Route(longRoute, new DistanceMatrix(deliveryPoints), new SplittableRandom(3));
+
+        assertEquals(longRoute.size(), route.getRoute().size());
+        assertEquals(new HashSet<>(longRoute), new HashSet<>(route.getRoute()));
+    }
+
+    @Test
+    public void testMultiStartRouteIsReproducible() {
+        DeliveryPoints deliveryPoints = new DeliveryPoints();
+        DistanceMatrix distances = new DistanceMatrix(deliveryPoints);
+        LinkedList<Point> longRoute = new LinkedList<>(deliveryPoints.getPoints());
+        RoutingSettings settings = new RoutingSettings();
+        settings.setChains(4);
+        Route route = new Route(new LinkedList<>(longRoute), distances, new SplittableRandom(3), settings);
+        Route again = new Route(new LinkedList<>(longRoute), distances, new SplittableRandom(3), settings);
+
+        assertEquals(new HashSet<>(longRoute), new HashSet<>(route.getRoute()));
+        assertEquals(route.getRoute(), again.getRoute());
+    }
+
+    @Test
+    public void testTimeLimitedRouteVisitsEveryPoint() {
+        DeliveryPoints deliveryPoints = new DeliveryPoints();
+        LinkedList<Point> longRoute = new LinkedList<>(deliveryPoints.getPoints());
+        RoutingSettings settings = new RoutingSettings();
+        settings.setChains(3);
+        settings.setTimeLimit(1e-6);
+        Route route = new Route(new LinkedList<>(longRoute), new DistanceMatrix(deliveryPoints),
+                new SplittableRandom(3), settings);
+
+        assertEquals(longRoute.size(), route.getRoute().size());
+        assertEquals(new HashSet<>(longRoute), new HashSet<>(route.getRoute()));
+    }
+
+    @Test
+    public void testExactRouteIsShortest() {
+        DeliveryPoints deliveryPoints = new DeliveryPoints();
+        DistanceMatrix distances = new DistanceMatrix(deliveryPoints);
+        LinkedList<Point> stops = new LinkedList<>(deliveryPoints.getPoints().subList(3, 10));
+        Route route = new Route(stops, distances, new SplittableRandom(3), new RoutingSettings());
+
+        assertEquals(new HashSet<>(stops), new HashSet<>(route.getRoute()));
+        assertEquals(shortestLength(new LinkedList<>(), stops, distances), length(route.getRoute(), distances), 1e-6);
+    }
+
+    /**
+     * Returns the length of the shortest cycle through the origin starting with the visited points.
+     */
+    private static double shortestLength(LinkedList<Point> visited, List<Point> remaining, DistanceMatrix distances) {
+        if (remaining.isEmpty()) return length(visited, distances);
+
+        double shortest = Double.POSITIVE_INFINITY;
+        for (Point point : remaining) {
+            LinkedList<Point> rest = new LinkedList<>(remaining);
+            rest.remove(point);
+            visited.addLast(point);
+            shortest = Math.min(shortest, shortestLength(visited, rest, distances));
+            visited.removeLast();
+        }
+        return shortest;
+    }
+
+    private static double length(List<Point> cycle, DistanceMatrix distances) {
+        double length = 0;
+        Point previous = null;
+        for (Point point : cycle) {
+            length += distances.getDistance(previous, point);
+            previous = point;
+        }
+        return length + distances.getDistance(previous, null);
+    }
+}
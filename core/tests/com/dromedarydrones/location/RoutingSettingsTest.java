@@ -0,0 +1,67 @@
+package com.dromedarydrones.location;
+
+import com.dromedarydrones.xml.XmlFactory;
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+import static org.junit.Assert.assertEquals;
+
+public class RoutingSettingsTest {
+
+    @Test
+    public void testDefaultConstructor() {
+        RoutingSettings settings = new RoutingSettings();
+        assertEquals(RoutingSettings.DEFAULT_ALGORITHM, settings.getAlgorithm());
+        assertEquals(RoutingSettings.DEFAULT_EXACT_LIMIT, settings.getExactLimit());
+        assertEquals(RoutingSettings.DEFAULT_CACHE_SIZE, settings.getCacheSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCacheSize() {
+        new RoutingSettings().setCacheSize(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeExactLimit() {
+        new RoutingSettings().setExactLimit(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExactLimitTooLarge() {
+        new RoutingSettings().setExactLimit(RoutingSettings.MAX_EXACT_LIMIT + 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroChains() {
+        new RoutingSettings().setChains(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTimeLimit() {
+        new RoutingSettings().setTimeLimit(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownAlgorithm() {
+        RoutingSettings.Algorithm.fromXmlName("teleport");
+    }
+
+    @Test
+    public void testXmlRoundTrip() {
+        RoutingSettings settings = new RoutingSettings();
+        settings.setAlgorithm(RoutingSettings.Algorithm.LOCAL_SEARCH);
+        settings.setExactLimit(5);
+        settings.setCacheSize(0);
+        settings.setChains(6);
+        settings.setTimeLimit(2.5);
+
+        Document document = XmlFactory.fromXmlString(XmlFactory.toXmlString(settings));
+        RoutingSettings copy = new RoutingSettings(document.getDocumentElement());
+
+        assertEquals(RoutingSettings.Algorithm.LOCAL_SEARCH, copy.getAlgorithm());
+        assertEquals(5, copy.getExactLimit());
+        assertEquals(0, copy.getCacheSize());
+        assertEquals(6, copy.getChains());
+        assertEquals(2.5, copy.getTimeLimit(), 0);
+    }
+}
@@ -0,0 +1,24 @@
+package com.dromedarydrones.mainapp;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+public class DeliverySimulationTest {
+
+    @Test
+    public void testTickUntilMatchesTicking() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int run = 0; run < 2000; run++) {
+            double time = run == 0 ? 0 : random.nextDouble() * 20000;
+            double target = Math.floor(time) + 1 + random.nextInt(5000);
+
+            double ticked = time;
+            do ticked++; while (ticked < target);
+
+            assertEquals(ticked, DeliverySimulation.tickUntil(time, target), 0);
+        }
+    }
+}
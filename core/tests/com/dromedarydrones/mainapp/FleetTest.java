@@ -0,0 +1,50 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.xml.XmlFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+import static org.junit.Assert.assertEquals;
+
+public class FleetTest {
+
+    private Fleet fleet;
+
+    @Before
+    public void setUp() {
+        fleet = new Fleet();
+    }
+
+    @Test
+    public void testDefaultConstructor() {
+        assertEquals(1, fleet.size());
+        assertEquals(Drone.DEFAULT_MAX_PAYLOAD_WEIGHT, fleet.getDrone(0).getMaxPayloadWeight(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddNullDrone() {
+        fleet.addDrone(null);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRemoveLastDrone() {
+        fleet.removeDrone(fleet.getDrone(0));
+    }
+
+    @Test
+    public void testXmlRoundTrip() {
+        Drone large = new Drone();
+        large.setMaxPayloadWeight(384);
+        fleet.addDrone(new Drone());
+        fleet.addDrone(large);
+
+        Document document = XmlFactory.fromXmlString(XmlFactory.toXmlString(fleet));
+        assertEquals(2, document.getElementsByTagName("drone").getLength());
+
+        Fleet copy = new Fleet(document.getDocumentElement());
+        assertEquals(3, copy.size());
+        assertEquals(Drone.DEFAULT_MAX_PAYLOAD_WEIGHT, copy.getDrone(1).getMaxPayloadWeight(), 0);
+        assertEquals(384, copy.getDrone(2).getMaxPayloadWeight(), 0);
+    }
+}
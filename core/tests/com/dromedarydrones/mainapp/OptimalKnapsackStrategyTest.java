@@ -0,0 +1,109 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.food.FoodItem;
+import com.dromedarydrones.food.Meal;
+import com.dromedarydrones.location.DistanceMatrix;
+import com.dromedarydrones.location.Point;
+import com.dromedarydrones.sampling.AliasSampler;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class OptimalKnapsackStrategyTest {
+
+    private static final Point DESTINATION = new Point("point", 100, 100);
+    private static final DistanceMatrix DISTANCES = new DistanceMatrix(List.of(DESTINATION));
+
+    private static Meal meal(double weight) {
+        Meal meal = new Meal();
+        meal.addItem(new FoodItem("item", weight));
+        return meal;
+    }
+
+    /** store of orders to the destination weighing each of the given ounces, placed a second apart */
+    private static OrderStore store(double... weights) {
+        List<Meal> meals = new ArrayList<>();
+        for (double weight : weights) meals.add(meal(weight));
+        OrderStore store = new OrderStore(weights.length, 1, new AliasSampler<>(meals, meal -> 1),
+                new AliasSampler<>(List.of(DESTINATION), point -> 1), DISTANCES);
+        for (int order = 0; order < weights.length; order++)
+            store.add(order, order, 0);
+        return store;
+    }
+
+    private static double weightOf(OrderStore store, PayloadTracker payload) {
+        double weight = 0;
+        for (int index = 0; index < payload.size(); index++)
+            weight += store.getWeight(payload.getOrder(index));
+        return weight;
+    }
+
+    private static double weightOf(OrderStore store, OrderList orders) {
+        double weight = 0;
+        for (int index = 0; index < orders.size(); index++)
+            weight += store.getWeight(orders.get(index));
+        return weight;
+    }
+
+    /** every order of the store as candidates */
+    private static OrderList candidates(OrderStore store) {
+        OrderList candidates = new OrderList();
+        for (int order = 0; order < store.size(); order++) candidates.add(order);
+        return candidates;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWorkBudget() {
+        new OptimalKnapsackStrategy(0);
+    }
+
+    @Test
+    public void testFillsCapacityExactly() {
+        // the oldest order plus the two 60 ounce orders fill the drone,
+        // while loading the lightest orders first leaves capacity unused
+        OptimalKnapsackStrategy strategy = new OptimalKnapsackStrategy();
+        OrderStore store = store(72, 50, 60, 60);
+        for (int order = 0; order < store.size(); order++)
+            strategy.orderArrived(order);
+
+        PayloadTracker payload = new PayloadTracker(new Drone(), DISTANCES);
+        strategy.loadPayload(store, payload);
+        assertTrue(payload.contains(0));
+        assertEquals(Drone.DEFAULT_MAX_PAYLOAD_WEIGHT, weightOf(store, payload), 1e-9);
+        assertTrue(strategy.hasWaitingOrders());
+        payload.clear();
+        strategy.loadPayload(store, payload);
+        assertEquals(50, weightOf(store, payload), 1e-9);
+        assertFalse(strategy.hasWaitingOrders());
+    }
+
+    @Test
+    public void testDynamicProgrammingMatchesCapacity() {
+        double[] weights = new double[40];
+        for (int index = 0; index < weights.length; index++)
+            weights[index] = index % 2 == 0 ? 7 : 11;
+        OrderStore store = store(weights);
+
+        OrderList selected = OptimalKnapsackStrategy.solveByWeight(store, candidates(store), 100,
+                OptimalKnapsackStrategy.DEFAULT_WORK_BUDGET);
+        assertEquals(100, weightOf(store, selected), 1e-9);
+    }
+
+    @Test
+    public void testDynamicProgrammingOverBudgetLoadsGreedily() {
+        double[] weights = new double[40];
+        for (int index = 0; index < weights.length; index++)
+            weights[index] = index % 2 == 0 ? 7 : 11;
+        OrderStore store = store(weights);
+        OrderList candidates = candidates(store);
+
+        // 40 candidates over 1001 weights do not fit in a budget of 1000 cells
+        assertSame(candidates, OptimalKnapsackStrategy.solveByWeight(store, candidates, 100, 1000));
+    }
+}
@@ -0,0 +1,71 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.food.FoodItem;
+import com.dromedarydrones.food.Meal;
+import com.dromedarydrones.location.DistanceMatrix;
+import com.dromedarydrones.location.Point;
+import com.dromedarydrones.sampling.AliasSampler;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OrderListTest {
+
+    private static Meal meal(double weight) {
+        Meal meal = new Meal();
+        meal.addItem(new FoodItem("item", weight));
+        return meal;
+    }
+
+    /** orders 0 to 5 weighing 20, 10, 20, 30, 10 and 20 ounces placed at seconds 5, 5, 3, 4, 3 and 5 */
+    private static OrderStore store() {
+        Point point = new Point("point", 100, 100);
+        OrderStore store = new OrderStore(6, 1, new AliasSampler<>(List.of(meal(10), meal(20), meal(30)), meal -> 1),
+                new AliasSampler<>(List.of(point), destination -> 1), new DistanceMatrix(List.of(point)));
+        int[] meals = {1, 0, 1, 2, 0, 1}, times = {5, 5, 3, 4, 3, 5};
+        for (int order = 0; order < meals.length; order++)
+            store.add(times[order], meals[order], 0);
+        return store;
+    }
+
+    private static void assertOrders(int[] expected, OrderList list) {
+        assertEquals(expected.length, list.size());
+        for (int index = 0; index < expected.length; index++)
+            assertEquals(expected[index], list.get(index));
+    }
+
+    private static OrderList listOf(int... orders) {
+        OrderList list = new OrderList();
+        for (int order : orders) list.add(order);
+        return list;
+    }
+
+    @Test
+    public void testGrowsAndRemovesRanges() {
+        OrderList list = new OrderList();
+        for (int order = 0; order < 100; order++) list.add(order);
+        list.removeRange(10, 95);
+        assertOrders(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 95, 96, 97, 98, 99}, list);
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testSortsByWeightStably() {
+        OrderList list = listOf(5, 4, 3, 2, 1, 0);
+        list.sortByWeight(store(), false);
+        assertOrders(new int[] {4, 1, 5, 2, 0, 3}, list);
+        list.sortByWeight(store(), true);
+        assertOrders(new int[] {3, 5, 2, 0, 4, 1}, list);
+    }
+
+    @Test
+    public void testSortsByTimeStably() {
+        OrderList list = listOf(3, 5, 0, 4, 2, 1);
+        list.sortByTime(store());
+        assertOrders(new int[] {4, 2, 3, 5, 0, 1}, list);
+    }
+}
@@ -0,0 +1,98 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.food.FoodItem;
+import com.dromedarydrones.food.Meal;
+import com.dromedarydrones.food.Order;
+import com.dromedarydrones.location.DistanceMatrix;
+import com.dromedarydrones.location.Point;
+import com.dromedarydrones.sampling.AliasSampler;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OrderStoreTest {
+
+    private static final List<Meal> MEALS = new ArrayList<>();
+    private static final List<Point> POINTS = new ArrayList<>();
+
+    static {
+        for (int index = 0; index < 5; index++) {
+            Meal meal = new Meal();
+            meal.addItem(new FoodItem("item", 10 + index));
+            MEALS.add(meal);
+            POINTS.add(new Point("point " + index, 100 * index, 50));
+        }
+    }
+
+    private static final DistanceMatrix DISTANCES = new DistanceMatrix(POINTS);
+
+    private static OrderStore store(int capacity) {
+        return new OrderStore(capacity, 2, new AliasSampler<>(MEALS, meal -> 1),
+                new AliasSampler<>(POINTS, point -> 1), DISTANCES);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFullStore() {
+        OrderStore store = store(1);
+        store.add(5, 0, 0);
+        store.add(6, 0, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTime() {
+        store(1).add(-1, 0, 0);
+    }
+
+    @Test
+    public void testSortIsStable() {
+        OrderStore store = store(5);
+        store.add(30, 0, 0);
+        store.add(10, 1, 1);
+        store.add(30, 2, 2);
+        store.add(20, 3, 3);
+        store.add(10, 4, 4);
+        store.sortByTime();
+
+        int[] times = {10, 10, 20, 30, 30};
+        int[] order = {1, 4, 3, 0, 2};
+        assertEquals(5, store.size());
+        for (int index = 0; index < times.length; index++) {
+            assertEquals(times[index], store.getTimeOrdered(index));
+            assertEquals(MEALS.get(order[index]).getTotalWeight(), store.getWeight(index), 0);
+            assertEquals(DISTANCES.getId(POINTS.get(order[index])), store.getDestinationId(index));
+        }
+    }
+
+    @Test
+    public void testDeliveryTimesPerStrategy() {
+        OrderStore store = store(1);
+        store.add(7, 0, 1);
+        store.setTimeDelivered(1, 0, 100);
+
+        assertEquals(-1, store.getTimeDelivered(0, 0), 0);
+        assertEquals(100, store.getTimeDelivered(1, 0), 0);
+        assertEquals(93, store.getWaitTime(1, 0), 0);
+    }
+
+    @Test
+    public void testToOrder() {
+        SimulationSnapshot snapshot = new SimulationSnapshot(Configuration.getDefaultConfiguration());
+        OrderStore store = new OrderStore(snapshot, 2);
+        store.add(7, 0, 1);
+        store.add(3, 0, 0);
+        store.sortByTime();
+        store.setTimeDelivered(0, 1, 50);
+
+        Order first = store.toOrder(0, 0), second = store.toOrder(0, 1);
+        assertEquals(3, first.getTimeOrdered(), 0);
+        assertEquals(-1, first.getTimeDelivered(), 0);
+        assertEquals(50, second.getTimeDelivered(), 0);
+        assertTrue(first.getDestination() == snapshot.getDestinationSampler().get(0));
+        assertTrue(second.getDestination() == snapshot.getDestinationSampler().get(1));
+        assertTrue(second.getMealOrdered() == snapshot.getMealSampler().get(0));
+    }
+}
@@ -0,0 +1,48 @@
+package com.dromedarydrones.mainapp;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PackingStrategiesTest {
+
+    @Test
+    public void testDefaultStrategies() {
+        assertTrue(PackingStrategies.isRegistered(PackingStrategies.FIFO));
+        assertTrue(PackingStrategies.isRegistered(PackingStrategies.KNAPSACK));
+        assertEquals(PackingStrategies.FIFO, PackingStrategies.create(PackingStrategies.FIFO).getName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateUnknownStrategy() {
+        PackingStrategies.create("unknown");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegisterDuplicateStrategy() {
+        PackingStrategies.register(PackingStrategies.FIFO, FifoStrategy::new);
+    }
+
+    @Test
+    public void testSimulationStrategies() {
+        Simulation simulation = new Simulation("");
+        assertEquals(PackingStrategies.getDefaultNames(), simulation.getPackingStrategies());
+
+        simulation.setPackingStrategies(List.of(PackingStrategies.KNAPSACK));
+        assertEquals(List.of(PackingStrategies.KNAPSACK), simulation.getPackingStrategies());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSimulationUnknownStrategy() {
+        new Simulation("").setPackingStrategies(List.of("unknown"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSimulationNoStrategies() {
+        new Simulation("").setPackingStrategies(Collections.emptyList());
+    }
+}
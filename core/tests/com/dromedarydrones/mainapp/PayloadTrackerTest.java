@@ -0,0 +1,127 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.food.FoodItem;
+import com.dromedarydrones.food.Meal;
+import com.dromedarydrones.food.Order;
+import com.dromedarydrones.location.DistanceMatrix;
+import com.dromedarydrones.location.Point;
+import com.dromedarydrones.sampling.AliasSampler;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PayloadTrackerTest {
+
+    private static Point point(int x, int y) {
+        return new Point("(" + x + "," + y + ")", x, y);
+    }
+
+    private static Meal meal(double weight) {
+        Meal meal = new Meal();
+        meal.addItem(new FoodItem("item", weight));
+        return meal;
+    }
+
+    /** points of a grid with 500 feet between neighbors */
+    private static final List<Point> GRID = new ArrayList<>();
+
+    static {
+        for (int x = -3000; x <= 3000; x += 500)
+            for (int y = -3000; y <= 3000; y += 500)
+                GRID.add(point(x, y));
+    }
+
+    /** meals weighing 1, 50 and 150 ounces */
+    private static final List<Meal> MEALS = List.of(meal(1), meal(50), meal(150));
+
+    private static DistanceMatrix grid() {
+        return new DistanceMatrix(GRID);
+    }
+
+    private static OrderStore store(DistanceMatrix distances, int capacity) {
+        return new OrderStore(capacity, 1, new AliasSampler<>(MEALS, meal -> 1),
+                new AliasSampler<>(GRID, point -> 1), distances);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullDrone() {
+        new PayloadTracker(null, grid());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRemoveFromEmptyPayload() {
+        new PayloadTracker(new Drone(), grid()).removeLast();
+    }
+
+    @Test
+    public void testExceedsPayloadCapacity() {
+        DistanceMatrix distances = grid();
+        OrderStore store = store(distances, 2);
+        store.add(0, 2, 0);
+        store.add(0, 1, 0);
+
+        PayloadTracker tracker = new PayloadTracker(new Drone(), distances);
+        tracker.add(store, 0);
+        assertFalse(tracker.canAdd(store, 1));
+    }
+
+    @Test
+    public void testRecordsOrdersAndStops() {
+        DistanceMatrix distances = grid();
+        OrderStore store = store(distances, 3);
+        store.add(0, 0, 5);
+        store.add(0, 0, 5);
+        store.add(0, 0, 9);
+
+        PayloadTracker tracker = new PayloadTracker(new Drone(), distances);
+        for (int order = 2; order >= 0; order--) tracker.add(store, order);
+        assertEquals(3, tracker.size());
+        assertEquals(2, tracker.getStopCount());
+        assertEquals(2, tracker.getOrder(0));
+        assertEquals(distances.getId(GRID.get(9)), tracker.getStop(0));
+        assertEquals(distances.getId(GRID.get(5)), tracker.getStop(1));
+        assertTrue(tracker.contains(1));
+
+        tracker.clear();
+        assertFalse(tracker.contains(1));
+        assertEquals(0, tracker.getWeight(), 0);
+    }
+
+    @Test
+    public void testMatchesEstimatedFlightTime() {
+        Drone drone = new Drone();
+        drone.setMaxPayloadWeight(10_000);
+        SplittableRandom random = new SplittableRandom(7);
+        DistanceMatrix distances = grid();
+        OrderStore store = store(distances, 2000);
+        PayloadTracker tracker = new PayloadTracker(drone, distances);
+        List<Order> payload = new ArrayList<>();
+
+        for (int step = 0; step < 2000; step++) {
+            if (!payload.isEmpty() && random.nextInt(3) == 0) {
+                payload.remove(payload.size() - 1);
+                tracker.removeLast();
+                continue;
+            }
+
+            int destination = random.nextInt(GRID.size());
+            store.add(0, 0, destination);
+            int order = store.size() - 1;
+            List<Order> withOrder = new ArrayList<>(payload);
+            withOrder.add(new Order(MEALS.get(0), 0, GRID.get(destination)));
+            boolean expected = drone.isEstimatedSafeFlightTime(withOrder);
+            assertEquals(expected, tracker.canAdd(store, order));
+            if (expected) {
+                payload.add(withOrder.get(withOrder.size() - 1));
+                tracker.add(store, order);
+            }
+            assertEquals(payload.size(), tracker.size());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.food.Meal;
+import com.dromedarydrones.location.Point;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class SimulationSnapshotTest {
+
+    private Simulation simulation;
+    private SimulationSnapshot snapshot;
+
+    @Before
+    public void setUp() {
+        simulation = Configuration.getDefaultConfiguration();
+        snapshot = new SimulationSnapshot(simulation);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullSimulation() {
+        new SimulationSnapshot(null);
+    }
+
+    @Test
+    public void testCopiesStochasticFlow() {
+        int hours = snapshot.getHourCount();
+        int firstHour = snapshot.getOrdersInHour(0);
+        simulation.getStochasticFlow().set(0, firstHour + 100);
+        simulation.getStochasticFlow().add(5);
+
+        assertEquals(hours, snapshot.getHourCount());
+        assertEquals(firstHour, snapshot.getOrdersInHour(0));
+    }
+
+    @Test
+    public void testCopiesMealsAndPoints() {
+        SplittableRandom random = new SplittableRandom(1);
+        Meal meal = snapshot.getMealSampler().sample(random);
+        Point point = snapshot.getDestinationSampler().sample(random);
+
+        for (Meal original : simulation.getMealTypes())
+            assertFalse(original == meal);
+        for (Point original : simulation.getDeliveryPoints())
+            assertFalse(original == point);
+        assertEquals(point, snapshot.getRoutePlanner().getDistanceMatrix().getPoint(
+                snapshot.getRoutePlanner().getDistanceMatrix().getId(point)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testStrategyNamesAreReadOnly() {
+        snapshot.getStrategyNames().clear();
+    }
+}
@@ -0,0 +1,104 @@
+package com.dromedarydrones.mainapp;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class SimulationTest {
+
+    private Simulation simulation;
+
+    @Before
+    public void setUp() {
+        simulation = new Simulation("");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullNameInConstructor(){
+        new Simulation((String) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullFoodItem() {
+        simulation.addFoodItem(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addMealType() {
+        simulation.addMealType(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullStochasticFlow() {
+        simulation.addStochasticFlow(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullDeliveryPoints() {
+        simulation.setDeliveryPoints(null);
+    }
+
+    @Test
+    public void testSeededRunsAreReproducible() {
+        Simulation seeded = Configuration.getDefaultConfiguration();
+        seeded.getTrialSettings().setTrialCount(4);
+        seeded.setSeed(42L);
+
+        SimulationResults first = seeded.call();
+        seeded.setTrialScheduler(new TrialScheduler(1));
+        SimulationResults second = seeded.call();
+
+        assertEquals(42L, second.getSeed());
+        assertEquals(first.getAverageFifoTime(), second.getAverageFifoTime(), 0);
+        assertEquals(first.getWorstFifoTime(), second.getWorstFifoTime(), 0);
+        assertEquals(first.getAverageKnapsackTime(), second.getAverageKnapsackTime(), 0);
+        assertEquals(first.getWorstKnapsackTime(), second.getWorstKnapsackTime(), 0);
+    }
+
+    @Test
+    public void testSeededOptimalPackingIsReproducibleAcrossThreadCounts() {
+        Simulation seeded = Configuration.getDefaultConfiguration();
+        seeded.getTrialSettings().setTrialCount(4);
+        seeded.setPackingStrategies(PackingStrategies.getNames());
+        seeded.setRetainingOrders(true);
+        seeded.setSeed(7L);
+
+        TrialScheduler serial = new TrialScheduler(1), parallel = new TrialScheduler(4);
+        SimulationResults first, second;
+        try {
+            seeded.setTrialScheduler(serial);
+            first = seeded.call();
+            seeded.setTrialScheduler(parallel);
+            second = seeded.call();
+        } finally {
+            serial.shutdown();
+            parallel.shutdown();
+        }
+
+        assertEquals(List.of(PackingStrategies.FIFO, PackingStrategies.KNAPSACK, PackingStrategies.OPTIMAL_KNAPSACK),
+                second.getStrategyNames());
+        for (String name : second.getStrategyNames()) {
+            assertFalse(second.getTimes(name).isEmpty());
+            assertEquals(first.getTimes(name), second.getTimes(name));
+            assertEquals(first.getStatistics(name).getCount(), second.getStatistics(name).getCount());
+            assertEquals(first.getAverageTime(name), second.getAverageTime(name), 0);
+            assertEquals(first.getWorstTime(name), second.getWorstTime(name), 0);
+            assertEquals(first.getPercentile(name, 95), second.getPercentile(name, 95), 0);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFailingTrialsStopAdaptiveRun() {
+        // no drone can carry any meal, so every trial fails
+        Simulation failing = Configuration.getDefaultConfiguration();
+        failing.getFleet().getDrone(0).setMaxPayloadWeight(1);
+        failing.getTrialSettings().setAdaptive(true);
+        failing.setSeed(3L);
+        failing.call();
+    }
+
+}
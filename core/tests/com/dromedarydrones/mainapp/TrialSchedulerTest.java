@@ -0,0 +1,107 @@
+package com.dromedarydrones.mainapp;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TrialSchedulerTest {
+
+    private TrialScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new TrialScheduler(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroParallelism() {
+        new TrialScheduler(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullTaskList() throws InterruptedException {
+        scheduler.invokeAll(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullMode() {
+        new TrialScheduler(null, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownModeName() {
+        TrialScheduler.Mode.fromName("green threads");
+    }
+
+    @Test
+    public void testModeNames() {
+        assertEquals(TrialScheduler.Mode.WORK_STEALING, TrialScheduler.Mode.fromName("work-stealing"));
+        assertEquals(TrialScheduler.Mode.VIRTUAL_THREADS, TrialScheduler.Mode.fromName(" Virtual "));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testShutdownShared() {
+        TrialScheduler.getShared().shutdown();
+    }
+
+    @Test
+    public void testSharedInstance() {
+        assertSame(TrialScheduler.getShared(), TrialScheduler.getShared());
+        assertEquals(Runtime.getRuntime().availableProcessors(), TrialScheduler.getShared().getParallelism());
+    }
+
+    @Test
+    public void testInvokeAllPreservesOrder() throws Exception {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int index = 0; index < 20; index++) {
+            int value = index;
+            tasks.add(() -> value);
+        }
+
+        List<Future<Integer>> futures = scheduler.invokeAll(tasks);
+        for (int index = 0; index < futures.size(); index++) {
+            assertTrue(futures.get(index).isDone());
+            assertEquals(index, (int) futures.get(index).get());
+        }
+        assertEquals(20, scheduler.getSubmittedTaskCount());
+        assertEquals(20, scheduler.getCompletedTaskCount());
+    }
+
+    @Test
+    public void testMoreSimulationsThanPermits() throws Exception {
+        for (TrialScheduler.Mode mode : TrialScheduler.Mode.values()) {
+            // each simulation waits on its trials, which would deadlock if it held the only permit
+            boolean supported = mode == TrialScheduler.Mode.WORK_STEALING
+                    || TrialScheduler.isVirtualThreadSupported();
+            TrialScheduler single = supported
+                    ? new TrialScheduler(mode, 1)
+                    : new TrialScheduler(mode, 1, Executors.newCachedThreadPool());
+            try {
+                List<Future<SimulationResults>> futures = new ArrayList<>();
+                for (int index = 0; index < 3; index++) {
+                    Simulation simulation = Configuration.getDefaultConfiguration();
+                    simulation.getTrialSettings().setTrialCount(2);
+                    simulation.setSeed((long) index);
+                    simulation.setTrialScheduler(single);
+                    futures.add(single.submit(simulation));
+                }
+                for (Future<SimulationResults> future : futures)
+                    assertEquals(2, future.get(60, TimeUnit.SECONDS).getTrialResults().size());
+                assertEquals(3 + 3 * 2, single.getSubmittedTaskCount());
+                assertEquals(3 + 3 * 2, single.getCompletedTaskCount());
+            } finally {
+                single.shutdown();
+            }
+        }
+    }
+}
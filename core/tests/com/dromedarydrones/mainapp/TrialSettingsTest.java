@@ -0,0 +1,66 @@
+package com.dromedarydrones.mainapp;
+
+import com.dromedarydrones.xml.XmlFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TrialSettingsTest {
+
+    private TrialSettings settings;
+
+    @Before
+    public void setUp() {
+        settings = new TrialSettings();
+    }
+
+    @Test
+    public void testDefaultConstructor() {
+        assertEquals(TrialSettings.DEFAULT_TRIAL_COUNT, settings.getTrialCount());
+        assertFalse(settings.isAdaptive());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroTrialCount() {
+        settings.setTrialCount(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSingleTrialBatch() {
+        settings.setBatchSize(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeConfidenceWidth() {
+        settings.setConfidenceWidth(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroTimeBudget() {
+        settings.setTimeBudget(0);
+    }
+
+    @Test
+    public void testXmlRoundTrip() {
+        settings.setTrialCount(7);
+        settings.setAdaptive(true);
+        settings.setBatchSize(4);
+        settings.setConfidenceWidth(12.5);
+        settings.setMaxTrials(80);
+        settings.setTimeBudget(90);
+
+        Document document = XmlFactory.fromXmlString(XmlFactory.toXmlString(settings));
+        TrialSettings copy = new TrialSettings(document.getDocumentElement());
+
+        assertEquals(7, copy.getTrialCount());
+        assertTrue(copy.isAdaptive());
+        assertEquals(4, copy.getBatchSize());
+        assertEquals(12.5, copy.getConfidenceWidth(), 0);
+        assertEquals(80, copy.getMaxTrials());
+        assertEquals(90, copy.getTimeBudget(), 0);
+    }
+}
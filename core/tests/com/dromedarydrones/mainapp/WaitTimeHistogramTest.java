@@ -0,0 +1,76 @@
+package com.dromedarydrones.mainapp;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WaitTimeHistogramTest {
+
+    private static final double[] PERCENTILES = { 1, 50, 90, 95, 99, 99.9 };
+
+    private double[] waitTimes;
+    private WaitTimeHistogram histogram;
+
+    @Before
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        waitTimes = new double[20000];
+        histogram = new WaitTimeHistogram();
+        for (int index = 0; index < waitTimes.length; index++) {
+            waitTimes[index] = -Math.log(1 - random.nextDouble()) * 900;   // exponential around 15 minutes
+            histogram.add(waitTimes[index]);
+        }
+        Arrays.sort(waitTimes);
+    }
+
+    @Test
+    public void testEmpty() {
+        WaitTimeHistogram empty = new WaitTimeHistogram();
+        assertEquals(0, empty.getCount());
+        assertEquals(0, empty.getValueAtPercentile(99), 0);
+    }
+
+    @Test
+    public void testPercentileError() {
+        assertEquals(waitTimes.length, histogram.getCount());
+        for (double percentile : PERCENTILES) {
+            double exact = waitTimes[(int) Math.ceil(percentile / 100 * waitTimes.length) - 1];
+            double estimate = histogram.getValueAtPercentile(percentile);
+            assertTrue("p" + percentile, Math.abs(estimate - exact) <= Math.max(0.5, exact / 128));
+        }
+        assertEquals(waitTimes[0], histogram.getValueAtPercentile(0), 0);
+        assertEquals(waitTimes[waitTimes.length - 1], histogram.getValueAtPercentile(100), 0);
+    }
+
+    @Test
+    public void testMerge() {
+        WaitTimeHistogram first = new WaitTimeHistogram();
+        WaitTimeHistogram second = new WaitTimeHistogram();
+        for (int index = 0; index < waitTimes.length; index++)
+            (index % 3 == 0 ? first : second).add(waitTimes[index]);
+
+        WaitTimeHistogram merged = new WaitTimeHistogram(first);
+        merged.merge(second);
+        assertEquals(histogram.getCount(), merged.getCount());
+        for (double percentile : PERCENTILES)
+            assertEquals(histogram.getValueAtPercentile(percentile), merged.getValueAtPercentile(percentile), 0);
+
+        // the copy is unaffected by the merge
+        assertEquals(first.getCount(), (waitTimes.length + 2) / 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        histogram.getValueAtPercentile(100.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeNull() {
+        histogram.merge(null);
+    }
+}
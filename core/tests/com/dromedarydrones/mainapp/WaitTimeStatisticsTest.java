@@ -0,0 +1,65 @@
+package com.dromedarydrones.mainapp;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class WaitTimeStatisticsTest {
+
+    private static final double[] WAIT_TIMES = { 120, 360, 7300, 45, 900, 8000, 30 };
+
+    private WaitTimeStatistics statistics;
+
+    @Before
+    public void setUp() {
+        statistics = new WaitTimeStatistics();
+        for (double waitTime : WAIT_TIMES) statistics.add(waitTime);
+    }
+
+    @Test
+    public void testEmpty() {
+        WaitTimeStatistics empty = new WaitTimeStatistics();
+        assertEquals(0, empty.getCount());
+        assertEquals(0, empty.getAverage(), 0);
+        assertEquals(0, empty.getVariance(), 0);
+        assertEquals(0, empty.getPercentExpired(), 0);
+    }
+
+    @Test
+    public void testAccumulation() {
+        double mean = 0;
+        for (double waitTime : WAIT_TIMES) mean += waitTime;
+        mean /= WAIT_TIMES.length;
+        double variance = 0;
+        for (double waitTime : WAIT_TIMES) variance += (waitTime - mean) * (waitTime - mean);
+        variance /= WAIT_TIMES.length - 1;
+
+        assertEquals(WAIT_TIMES.length, statistics.getCount());
+        assertEquals(mean, statistics.getAverage(), 1e-9);
+        assertEquals(variance, statistics.getVariance(), 1e-6);
+        assertEquals(8000, statistics.getWorst(), 0);
+        assertEquals(2, statistics.getExpiredCount());
+    }
+
+    @Test
+    public void testMergeMatchesSequential() {
+        WaitTimeStatistics first = new WaitTimeStatistics();
+        WaitTimeStatistics second = new WaitTimeStatistics();
+        for (int index = 0; index < WAIT_TIMES.length; index++)
+            (index < 3 ? first : second).add(WAIT_TIMES[index]);
+        first.merge(second);
+        first.merge(new WaitTimeStatistics());
+
+        assertEquals(statistics.getCount(), first.getCount());
+        assertEquals(statistics.getAverage(), first.getAverage(), 1e-9);
+        assertEquals(statistics.getVariance(), first.getVariance(), 1e-6);
+        assertEquals(statistics.getWorst(), first.getWorst(), 0);
+        assertEquals(statistics.getExpiredCount(), first.getExpiredCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullMerge() {
+        statistics.merge(null);
+    }
+}
@@ -0,0 +1,67 @@
+package com.dromedarydrones.sampling;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+public class AliasSamplerTest {
+
+    private static final List<Double> WEIGHTS = Arrays.asList(0.5, 0.0, 2.0, 1.0, 0.5);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyItems() {
+        new AliasSampler<Double>(Collections.emptyList(), weight -> weight);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroTotalWeight() {
+        new AliasSampler<>(Arrays.asList(0.0, 0.0), weight -> weight);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight() {
+        new AliasSampler<>(Arrays.asList(1.0, -1.0), weight -> weight);
+    }
+
+    @Test
+    public void testProbabilitiesAreNormalized() {
+        AliasSampler<Double> sampler = new AliasSampler<>(WEIGHTS, weight -> weight);
+        for (int index = 0; index < WEIGHTS.size(); index++)
+            assertEquals(WEIGHTS.get(index) / 4, sampler.getProbability(index), 1e-12);
+    }
+
+    @Test
+    public void testSampleFrequencies() {
+        List<String> items = Arrays.asList("a", "b", "c", "d", "e");
+        AliasSampler<String> sampler = new AliasSampler<>(items, item -> WEIGHTS.get(items.indexOf(item)));
+        SplittableRandom random = new SplittableRandom(5);
+        int draws = 200000;
+        int[] counts = new int[items.size()];
+        for (int draw = 0; draw < draws; draw++)
+            counts[items.indexOf(sampler.sample(random))]++;
+
+        assertEquals(0, counts[1]);
+        for (int index = 0; index < items.size(); index++)
+            assertEquals(WEIGHTS.get(index) / 4, (double) counts[index] / draws, 0.005);
+    }
+
+    @Test
+    public void testSampleIndexMatchesSample() {
+        List<String> items = Arrays.asList("a", "b", "c", "d", "e");
+        AliasSampler<String> sampler = new AliasSampler<>(items, item -> WEIGHTS.get(items.indexOf(item)));
+        SplittableRandom indexRandom = new SplittableRandom(8), itemRandom = new SplittableRandom(8);
+        for (int draw = 0; draw < 1000; draw++)
+            assertEquals(sampler.sample(itemRandom), sampler.get(sampler.sampleIndex(indexRandom)));
+    }
+
+    @Test
+    public void testSingleItem() {
+        AliasSampler<String> sampler = new AliasSampler<>(Collections.singletonList("only"), item -> 3);
+        assertEquals("only", sampler.sample(new SplittableRandom(1)));
+    }
+}
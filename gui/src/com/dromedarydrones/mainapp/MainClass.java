@@ -110,6 +110,7 @@ public class MainClass extends Application {
 
 		//simulation to be run is submitted to the executor so it can be run asynchronously with the UI thread
 		Simulation activeSimulation = Configuration.getInstance().getCurrentSimulation();
+		activeSimulation.setRetainingOrders(true);	// the results page charts and saves every order
 		futureResults = executor.submit(activeSimulation);
 
 		// retrieve the simulation results and transition to the results page
@@ -739,7 +740,7 @@ public class MainClass extends Application {
 
 		//arranges food items in a table format for a simple and readable layout
 		TableView<FoodItem> foodTable = new TableView<>();
-		ObservableList<FoodItem> foodItems = currentSimulation.getFoodItems();
+		ObservableList<FoodItem> foodItems = FXCollections.observableList(currentSimulation.getFoodItems());
 		foodTable.setItems(foodItems);
 		foodTable.setEditable(true);
 		foodTable.setStyle(tableStyle());
@@ -948,7 +949,7 @@ public class MainClass extends Application {
 				//adds new food item to current simulation if it meets all of the necessary criteria
 				else{
 					currentSimulation.addFoodItem(new FoodItem(newFoodName.getText(), newWeight));
-					foodTable.setItems(currentSimulation.getFoodItems());
+					foodTable.setItems(FXCollections.observableList(currentSimulation.getFoodItems()));
 					foodTable.refresh();
 					newFoodName.setText("");
 					newFoodWeight.setText("");
@@ -1969,7 +1970,7 @@ public class MainClass extends Application {
 		settingTitle();
 
 		//gets list of current map destinations
-		ObservableList<Point> mapPoints = currentSimulation.getDeliveryPoints().getPoints();
+		ObservableList<Point> mapPoints = FXCollections.observableList(currentSimulation.getDeliveryPoints().getPoints());
 
 		//finds maximum and minimum x and y values to make axes of map have a good range
 		ArrayList<Integer> bounds = setAxes(mapPoints);
@@ -2256,7 +2257,7 @@ public class MainClass extends Application {
 
 									setNewBounds(newXValue, newYValue, xAxis, yAxis);
 
-									mapTable.setItems(currentSimulation.getDeliveryPoints().getPoints());
+									mapTable.setItems(FXCollections.observableList(currentSimulation.getDeliveryPoints().getPoints()));
 
 									for (Node mapPoint : map.lookupAll(".series" + 0)) {
 										mapPoint.setStyle("-fx-background-color: #0047ab");
@@ -2404,7 +2405,7 @@ public class MainClass extends Application {
 
 					// create a formatted table to display new delivery points
 					var importPointTable = new TableView<Point>();
-					importPointTable.setItems(points.getPoints());
+					importPointTable.setItems(FXCollections.observableList(points.getPoints()));
 					importPointTable.setStyle(tableStyle());
 
 					// table column to list the names of the delivery locations
@@ -2518,6 +2519,12 @@ public class MainClass extends Application {
 		fifoWorst.setWrappingWidth(300);
 		fifoWorst.setTextAlignment(TextAlignment.CENTER);
 
+		Text fifoPercentile = new Text(String.format("95th Percentile Delivery Time: %.1f minutes",
+				results.getFifoPercentile(95) / SECONDS_PER_MINUTE));
+		fifoPercentile.setStyle(resultsTextStyle);
+		fifoPercentile.setWrappingWidth(300);
+		fifoPercentile.setTextAlignment(TextAlignment.CENTER);
+
 		double fifoExpiredPercent = results.getPercentFifoExpired();
 		DecimalFormat decimalFormat = new DecimalFormat("##.####");
 		decimalFormat.format(fifoExpiredPercent);
@@ -2531,7 +2538,7 @@ public class MainClass extends Application {
 		VBox fifoLayout = new VBox();
 		fifoLayout.setSpacing(5);
 		fifoLayout.setAlignment(Pos.TOP_CENTER);
-		fifoLayout.getChildren().addAll(fifoTitle, fifoAverage, fifoWorst, fifoExpired);
+		fifoLayout.getChildren().addAll(fifoTitle, fifoAverage, fifoWorst, fifoPercentile, fifoExpired);
 
 		//sets up statistics for knapsack packing
 		Text knapsackTitle = new Text("Knapsack Packing Delivery");
@@ -2555,6 +2562,12 @@ public class MainClass extends Application {
 		knapsackWorst.setWrappingWidth(300);
 		knapsackWorst.setTextAlignment(TextAlignment.CENTER);
 
+		Text knapsackPercentile = new Text(String.format("95th Percentile Delivery Time: %.1f minutes",
+				results.getKnapsackPercentile(95) / SECONDS_PER_MINUTE));
+		knapsackPercentile.setStyle(resultsTextStyle);
+		knapsackPercentile.setWrappingWidth(300);
+		knapsackPercentile.setTextAlignment(TextAlignment.CENTER);
+
 		double knapsackExpiredPercent = results.getPercentKnapsackExpired();
 		decimalFormat.format(knapsackExpiredPercent);	//Decimal format initialized earlier
 
@@ -2567,7 +2580,7 @@ public class MainClass extends Application {
 		VBox knapsackLayout = new VBox();
 		knapsackLayout.setSpacing(5);
 		knapsackLayout.setAlignment(Pos.TOP_CENTER);
-		knapsackLayout.getChildren().addAll(knapsackTitle, knapsackAverage, knapsackWorst, knapsackExpired);
+		knapsackLayout.getChildren().addAll(knapsackTitle, knapsackAverage, knapsackWorst, knapsackPercentile, knapsackExpired);
 
 		//sets up layout of statistics
 		HBox statsLayout = new HBox();